@@ -0,0 +1,74 @@
+package com.spacex.launcher.arrow;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Colonne d'une table Arrow: nom, type et extraction de la valeur d'une ligne
+ *
+ * @param <T> Type des lignes
+ */
+public final class ArrowColumn<T> {
+
+    enum Kind {
+        UTF8, DICTIONARY, TIMESTAMP, BOOLEAN, FLOAT64
+    }
+
+    private final String name;
+    private final Kind kind;
+    private final Function<T, ?> getter;
+    private final List<String> dictionary;
+
+    private ArrowColumn(String name, Kind kind, Function<T, ?> getter, List<String> dictionary) {
+        this.name = name;
+        this.kind = kind;
+        this.getter = getter;
+        this.dictionary = dictionary;
+    }
+
+    public static <T> ArrowColumn<T> utf8(String name, Function<T, String> getter) {
+        return new ArrowColumn<>(name, Kind.UTF8, getter, List.of());
+    }
+
+    /**
+     * Texte encodé par dictionnaire (index int32), pour les colonnes à faible
+     * cardinalité. Le format fichier n'autorise qu'un dictionnaire par
+     * colonne: toutes les valeurs possibles doivent être connues à l'avance.
+     *
+     * @param values Valeurs possibles (hors null)
+     */
+    public static <T> ArrowColumn<T> dictionary(String name, Function<T, String> getter, Collection<String> values) {
+        return new ArrowColumn<>(name, Kind.DICTIONARY, getter, values.stream().distinct().toList());
+    }
+
+    /** Horodatage UTC en millisecondes */
+    public static <T> ArrowColumn<T> timestamp(String name, Function<T, Instant> getter) {
+        return new ArrowColumn<>(name, Kind.TIMESTAMP, getter, List.of());
+    }
+
+    public static <T> ArrowColumn<T> bool(String name, Function<T, Boolean> getter) {
+        return new ArrowColumn<>(name, Kind.BOOLEAN, getter, List.of());
+    }
+
+    public static <T> ArrowColumn<T> float64(String name, Function<T, Double> getter) {
+        return new ArrowColumn<>(name, Kind.FLOAT64, getter, List.of());
+    }
+
+    String name() {
+        return name;
+    }
+
+    Kind kind() {
+        return kind;
+    }
+
+    List<String> dictionary() {
+        return dictionary;
+    }
+
+    Object valueOf(T row) {
+        return getter.apply(row);
+    }
+}
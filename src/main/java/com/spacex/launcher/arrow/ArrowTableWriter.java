@@ -0,0 +1,178 @@
+package com.spacex.launcher.arrow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.arrow.compression.CommonsCompressionFactory;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMilliTZVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.compression.CompressionUtil;
+import org.apache.arrow.vector.dictionary.Dictionary;
+import org.apache.arrow.vector.dictionary.DictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.ipc.message.IpcOption;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.DictionaryEncoding;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+/**
+ * Écriture d'une table au format fichier Arrow IPC (Feather v2)
+ *
+ * Les lignes sont consommées au fil de l'eau et écrites par lots de
+ * batchSize: seul le lot courant est en mémoire. Buffers compressés en ZSTD,
+ * colonnes à faible cardinalité encodées par dictionnaire.
+ * Lecture directe: pyarrow.ipc.open_file, pandas.read_feather, polars.read_ipc.
+ *
+ * @param <T> Type des lignes
+ */
+public final class ArrowTableWriter<T> {
+
+    private static final ArrowType.Int DICTIONARY_INDEX = new ArrowType.Int(32, true);
+
+    private final List<ArrowColumn<T>> columns;
+    private final int batchSize;
+
+    public ArrowTableWriter(List<ArrowColumn<T>> columns, int batchSize) {
+        this.columns = List.copyOf(columns);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Écrit toutes les lignes puis le pied de fichier; le flux est fermé
+     *
+     * @return Nombre de lignes écrites
+     */
+    public long write(Iterator<T> rows, OutputStream out) throws IOException {
+        try (BufferAllocator allocator = new RootAllocator();
+                DictionaryProvider.MapDictionaryProvider dictionaries = new DictionaryProvider.MapDictionaryProvider()) {
+
+            List<Field> fields = new ArrayList<>(columns.size());
+            List<Map<String, Integer>> dictionaryIndexes = new ArrayList<>(columns.size());
+            for (ArrowColumn<T> column : columns) {
+                fields.add(field(column, fields.size(), allocator, dictionaries, dictionaryIndexes));
+            }
+
+            try (VectorSchemaRoot root = VectorSchemaRoot.create(new Schema(fields), allocator);
+                    ArrowFileWriter writer = new ArrowFileWriter(root, dictionaries, Channels.newChannel(out),
+                            Map.of(), IpcOption.DEFAULT, CommonsCompressionFactory.INSTANCE,
+                            CompressionUtil.CodecType.ZSTD)) {
+                writer.start();
+
+                long total = 0;
+                int row = 0;
+                root.allocateNew();
+                while (rows.hasNext()) {
+                    T item = rows.next();
+                    for (int i = 0; i < columns.size(); i++) {
+                        set(root.getVector(i), columns.get(i), dictionaryIndexes.get(i), row, item);
+                    }
+                    row++;
+                    total++;
+                    if (row == batchSize) {
+                        root.setRowCount(row);
+                        writer.writeBatch();
+                        root.allocateNew();
+                        row = 0;
+                    }
+                }
+                // Dernier lot partiel (ou lot vide: le schéma reste lisible)
+                if (row > 0 || total == 0) {
+                    root.setRowCount(row);
+                    writer.writeBatch();
+                }
+                writer.end();
+                return total;
+            }
+        }
+    }
+
+    private Field field(
+            ArrowColumn<T> column,
+            long dictionaryId,
+            BufferAllocator allocator,
+            DictionaryProvider.MapDictionaryProvider dictionaries,
+            List<Map<String, Integer>> dictionaryIndexes) {
+
+        switch (column.kind()) {
+            case DICTIONARY -> {
+                List<String> values = column.dictionary();
+                VarCharVector vector = new VarCharVector(column.name(), allocator);
+                vector.allocateNew(values.size());
+                Map<String, Integer> indexes = new HashMap<>();
+                for (int i = 0; i < values.size(); i++) {
+                    vector.setSafe(i, values.get(i).getBytes(StandardCharsets.UTF_8));
+                    indexes.put(values.get(i), i);
+                }
+                vector.setValueCount(values.size());
+
+                DictionaryEncoding encoding = new DictionaryEncoding(dictionaryId, false, DICTIONARY_INDEX);
+                dictionaries.put(new Dictionary(vector, encoding));
+                dictionaryIndexes.add(indexes);
+                // Vecteur des index; le schéma écrit porte le type des valeurs (utf8)
+                return new Field(column.name(), new FieldType(true, DICTIONARY_INDEX, encoding), null);
+            }
+            case UTF8 -> {
+                dictionaryIndexes.add(Map.of());
+                return Field.nullable(column.name(), ArrowType.Utf8.INSTANCE);
+            }
+            case TIMESTAMP -> {
+                dictionaryIndexes.add(Map.of());
+                return Field.nullable(column.name(), new ArrowType.Timestamp(TimeUnit.MILLISECOND, "UTC"));
+            }
+            case BOOLEAN -> {
+                dictionaryIndexes.add(Map.of());
+                return Field.nullable(column.name(), ArrowType.Bool.INSTANCE);
+            }
+            case FLOAT64 -> {
+                dictionaryIndexes.add(Map.of());
+                return Field.nullable(column.name(), new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE));
+            }
+            default -> throw new IllegalStateException("Unsupported column kind: " + column.kind());
+        }
+    }
+
+    /**
+     * Valeur d'une cellule; null laissé tel quel (bit de validité à 0)
+     */
+    private void set(FieldVector vector, ArrowColumn<T> column, Map<String, Integer> indexes, int row, T item) {
+        Object value = column.valueOf(item);
+        if (value == null) {
+            return;
+        }
+
+        switch (column.kind()) {
+            case UTF8 -> ((VarCharVector) vector).setSafe(row, ((String) value).getBytes(StandardCharsets.UTF_8));
+            case DICTIONARY -> {
+                Integer index = indexes.get(value);
+                if (index == null) {
+                    throw new IllegalStateException(
+                            "Value '" + value + "' missing from dictionary of column " + column.name());
+                }
+                ((IntVector) vector).setSafe(row, index);
+            }
+            case TIMESTAMP -> ((TimeStampMilliTZVector) vector).setSafe(row, ((Instant) value).toEpochMilli());
+            case BOOLEAN -> ((BitVector) vector).setSafe(row, (Boolean) value ? 1 : 0);
+            case FLOAT64 -> ((Float8Vector) vector).setSafe(row, (Double) value);
+            default -> throw new IllegalStateException("Unsupported column kind: " + column.kind());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.spacex.launcher.cache;
+
+/**
+ * Message d'invalidation échangé entre les instances via Redis pub/sub
+ *
+ * key == null signifie "vider tout le cache"
+ * Format sur le fil: origin \t cacheName \t key
+ */
+public record CacheInvalidation(String origin, String cacheName, String key) {
+
+    private static final String SEPARATOR = "\t";
+
+    public boolean isClear() {
+        return key == null;
+    }
+
+    public String encode() {
+        return origin + SEPARATOR + cacheName + SEPARATOR + (key != null ? key : "");
+    }
+
+    public static CacheInvalidation decode(String message) {
+        String[] parts = message.split(SEPARATOR, 3);
+        if (parts.length < 3) {
+            throw new IllegalArgumentException("Malformed cache invalidation message: " + message);
+        }
+        return new CacheInvalidation(parts[0], parts[1], parts[2].isEmpty() ? null : parts[2]);
+    }
+}
@@ -0,0 +1,89 @@
+package com.spacex.launcher.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Diffusion des invalidations de cache local (L1) entre les instances
+ *
+ * Chaque instance publie ses évictions sur un canal Redis et écoute celles
+ * des autres. Les messages émis par l'instance elle-même sont ignorés.
+ */
+public class CacheInvalidationBus implements MessageListener {
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    public static final String CHANNEL = "spacex:cache:invalidation";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private volatile Consumer<CacheInvalidation> handler = invalidation -> {
+    };
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate, RedisCircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Enregistre le traitement des invalidations reçues des autres instances
+     */
+    public void onInvalidation(Consumer<CacheInvalidation> handler) {
+        this.handler = handler;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(new CacheInvalidation(nodeId, cacheName, key));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(new CacheInvalidation(nodeId, cacheName, null));
+    }
+
+    private void publish(CacheInvalidation invalidation) {
+        if (circuitBreaker.isOpen()) {
+            // Redis indisponible: les caches distants seront vidés à la reconnexion
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, invalidation.encode());
+        } catch (Exception e) {
+            circuitBreaker.recordFailure(e);
+            // Les autres instances garderont leur L1 jusqu'à expiration du TTL
+            logger.warn("Failed to publish cache invalidation for '{}': {}",
+                    invalidation.cacheName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidation invalidation;
+        try {
+            invalidation = CacheInvalidation.decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            logger.warn(e.getMessage());
+            return;
+        }
+
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+
+        logger.debug("Received cache invalidation from {}: cache={}, key={}",
+                invalidation.origin(), invalidation.cacheName(),
+                invalidation.isClear() ? "*" : invalidation.key());
+        handler.accept(invalidation);
+    }
+}
@@ -0,0 +1,35 @@
+package com.spacex.launcher.cache;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Construction des clés de cache
+ *
+ * Partagé entre les lectures en cache de LaunchService et le préchauffage,
+ * qui doivent produire exactement les mêmes clés.
+ */
+public final class CacheKeys {
+
+    public static final String GLOBAL_STATS = "global";
+    public static final String LAUNCH_YEARS = "all";
+
+    public static final String ALL_LAUNCHES = "all";
+
+    private CacheKeys() {
+    }
+
+    public static String yearFilter(int year) {
+        return "year=" + year;
+    }
+
+    public static String successFilter(Boolean success) {
+        return "success=" + success;
+    }
+
+    /**
+     * Clé d'une page de lancements: filtre|page|taille|tri
+     */
+    public static String launchPage(String filter, Pageable pageable) {
+        return filter + "|" + pageable.getPageNumber() + "|" + pageable.getPageSize() + "|" + pageable.getSort();
+    }
+}
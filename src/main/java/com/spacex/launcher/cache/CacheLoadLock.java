@@ -0,0 +1,113 @@
+package com.spacex.launcher.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Verrou Redis court autour du calcul d'une entrée absente de L2
+ *
+ * Clés: spacex:v{N}:lock:{cache}:{clé} -> jeton de l'instance qui calcule
+ * (SET NX avec TTL). Une seule instance du cluster calcule une clé donnée;
+ * les autres attendent que la valeur apparaisse dans L2.
+ *
+ * Redis indisponible (disjoncteur ouvert ou erreur): le verrou est
+ * considéré comme obtenu, chaque instance calcule pour elle-même.
+ */
+public class CacheLoadLock {
+    private static final Logger logger = LoggerFactory.getLogger(CacheLoadLock.class);
+
+    /** Jeton rendu quand Redis ne peut pas arbitrer: rien à libérer */
+    static final String UNLOCKED = "";
+
+    /** Suppression seulement si le verrou appartient encore à l'appelant */
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final Duration ttl;
+    private final Duration pollInterval;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    public CacheLoadLock(
+            StringRedisTemplate redisTemplate,
+            String keyPrefix,
+            Duration ttl,
+            Duration pollInterval,
+            RedisCircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.ttl = ttl;
+        this.pollInterval = pollInterval;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Durée maximale d'attente d'une autre instance (TTL du verrou)
+     */
+    public Duration ttl() {
+        return ttl;
+    }
+
+    public Duration pollInterval() {
+        return pollInterval;
+    }
+
+    /**
+     * @return Jeton à rendre via release(), null si une autre instance
+     *         calcule déjà cette clé
+     */
+    public String tryAcquire(String key) {
+        if (circuitBreaker.isOpen()) {
+            return UNLOCKED;
+        }
+
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(keyPrefix + key, token, ttl);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure(e);
+            return UNLOCKED;
+        }
+    }
+
+    /**
+     * @return true tant que l'instance propriétaire n'a pas libéré le verrou
+     *         (ni atteint son TTL)
+     */
+    public boolean isHeld(String key) {
+        if (circuitBreaker.isOpen()) {
+            return false;
+        }
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(keyPrefix + key));
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure(e);
+            return false;
+        }
+    }
+
+    public void release(String key, String token) {
+        if (token == null || UNLOCKED.equals(token) || circuitBreaker.isOpen()) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(RELEASE, List.of(keyPrefix + key), token);
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure(e);
+            // Le TTL libérera le verrou
+            logger.warn("Failed to release cache load lock '{}': {}", key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.spacex.launcher.cache;
+
+/**
+ * Noms des caches applicatifs
+ */
+public final class CacheNames {
+
+    public static final String LAUNCH_STATS = "launchStats";
+    public static final String YEARLY_STATS = "yearlyStats";
+    public static final String LAUNCH_YEARS = "launchYears";
+    public static final String LAUNCH_PAGES = "launchPages";
+    public static final String LAUNCH_COUNTS = "launchCounts";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,175 @@
+package com.spacex.launcher.cache;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Index tag -> entrées de cache
+ *
+ * Les entrées en cache déclarent leurs tags une fois stockées; la
+ * synchronisation invalide ensuite uniquement les entrées des tags touchés.
+ * Si l'index est indisponible, tous les caches sont vidés (jamais de
+ * donnée périmée).
+ *
+ * Chaque invalidation incrémente une génération: une entrée dont le calcul
+ * a chevauché une invalidation (lue avant la synchronisation, stockée
+ * après) est évincée aussitôt stockée.
+ */
+public abstract class CacheTagIndex {
+    private static final Logger logger = LoggerFactory.getLogger(CacheTagIndex.class);
+
+    private static final String SEPARATOR = "\t";
+
+    /** Génération inconnue (index indisponible) */
+    protected static final long UNKNOWN_GENERATION = -1;
+
+    private final CacheManager cacheManager;
+
+    protected CacheTagIndex(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Lecture d'une entrée taguée, calculée au premier appel (les appels
+     * concurrents sur la même clé attendent ce calcul)
+     *
+     * @param cacheName Nom du cache
+     * @param key       Clé de l'entrée
+     * @param loader    Calcul de la valeur, appelé sur un miss
+     * @param tags      Tags de la valeur calculée
+     */
+    public <T> T get(String cacheName, String key, Supplier<T> loader, Function<? super T, Collection<String>> tags) {
+        return get(cacheName, key, loader, tags, value -> false);
+    }
+
+    /**
+     * Comme get(), pour une valeur qui dépend aussi de l'heure courante: une
+     * entrée expirée est évincée puis recalculée
+     *
+     * @param expired Vrai si la valeur en cache n'est plus valable
+     */
+    public <T> T get(String cacheName, String key, Supplier<T> loader, Function<? super T, Collection<String>> tags,
+            Predicate<? super T> expired) {
+        Cache cache = cacheManager.getCache(cacheName);
+        long generation = generation();
+        AtomicBoolean loaded = new AtomicBoolean();
+
+        T value;
+        try {
+            value = cache.get(key, () -> {
+                loaded.set(true);
+                return loader.get();
+            });
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        if (!loaded.get()) {
+            if (value != null && expired.test(value)) {
+                logger.debug("Cache entry {}::{} expired, recomputing", cacheName, key);
+                cache.evict(key);
+                return get(cacheName, key, loader, tags, stale -> false);
+            }
+            return value;
+        }
+
+        // Tags posés après le stockage, puis génération relue: une invalidation
+        // passée pendant le calcul n'a pas pu évincer cette entrée
+        tag(cacheName, key, tags.apply(value));
+        if (generation() != generation) {
+            logger.debug("Cache entry {}::{} computed during an invalidation, evicting", cacheName, key);
+            cache.evict(key);
+        }
+        return value;
+    }
+
+    /**
+     * Associe une entrée de cache à ses tags
+     */
+    private void tag(String cacheName, String key, Collection<String> tags) {
+        try {
+            addMembers(tags, cacheName + SEPARATOR + key);
+        } catch (Exception e) {
+            logger.warn("Failed to tag cache entry {}::{}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    private long generation() {
+        try {
+            return currentGeneration();
+        } catch (Exception e) {
+            logger.warn("Failed to read cache tag generation: {}", e.getMessage());
+            return UNKNOWN_GENERATION;
+        }
+    }
+
+    /**
+     * Invalide les entrées portant au moins un des tags
+     *
+     * @return Nombre d'entrées évincées (-1 si tous les caches ont été vidés)
+     */
+    public int invalidate(Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> members;
+        try {
+            // Avant le retrait: un calcul en cours verra la génération changer
+            nextGeneration();
+            members = removeMembers(tags);
+        } catch (Exception e) {
+            logger.warn("Cache tag index unavailable ({}), clearing all caches", e.getMessage());
+            cacheManager.getCacheNames().forEach(name -> {
+                Cache cache = cacheManager.getCache(name);
+                if (cache != null) {
+                    cache.clear();
+                }
+            });
+            return -1;
+        }
+
+        for (String member : members) {
+            String[] parts = member.split(SEPARATOR, 2);
+            Cache cache = parts.length == 2 ? cacheManager.getCache(parts[0]) : null;
+            if (cache != null) {
+                cache.evict(parts[1]);
+            }
+        }
+
+        logger.debug("Invalidated {} cache entries for tags {}", members.size(), tags);
+        return members.size();
+    }
+
+    /**
+     * Ajoute un membre à chaque tag
+     */
+    protected abstract void addMembers(Collection<String> tags, String member);
+
+    /**
+     * Retire et renvoie les membres de tous les tags
+     */
+    protected abstract Set<String> removeMembers(Collection<String> tags);
+
+    /**
+     * Génération courante (nombre d'invalidations), UNKNOWN_GENERATION si
+     * elle ne peut pas être lue
+     */
+    protected abstract long currentGeneration();
+
+    /**
+     * Incrémente la génération
+     */
+    protected abstract void nextGeneration();
+}
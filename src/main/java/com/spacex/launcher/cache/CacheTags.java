@@ -0,0 +1,95 @@
+package com.spacex.launcher.cache;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.spacex.launcher.dto.LaunchFilter;
+import com.spacex.launcher.model.Launch;
+
+/**
+ * Tags de dépendance des entrées de cache
+ *
+ * Une entrée est taguée avec les données dont elle dépend; la
+ * synchronisation émet les tags touchés et seules les entrées portant l'un
+ * de ces tags sont invalidées.
+ */
+public final class CacheTags {
+
+    /** Dépend de l'ensemble des lancements (KPIs, liste non filtrée) */
+    public static final String LAUNCHES = "launches";
+
+    /** Dépend de la liste des années contenant des lancements */
+    public static final String YEARS = "years";
+
+    private CacheTags() {
+    }
+
+    public static String year(int year) {
+        return "year:" + year;
+    }
+
+    public static String success(Boolean success) {
+        return "success:" + success;
+    }
+
+    public static String rocket(String rocketId) {
+        return "rocket:" + rocketId;
+    }
+
+    public static String launchPad(String launchPadId) {
+        return "pad:" + launchPadId;
+    }
+
+    /**
+     * Année d'une date, dans le fuseau utilisé par les statistiques annuelles
+     */
+    public static int yearOf(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault()).getYear();
+    }
+
+    /**
+     * Tags touchés par l'état d'un lancement (avant ou après modification)
+     */
+    public static Set<String> forLaunch(Launch launch) {
+        Set<String> tags = new HashSet<>();
+        tags.add(LAUNCHES);
+        tags.add(success(launch.getSuccess()));
+        if (launch.getDateUtc() != null) {
+            tags.add(year(yearOf(launch.getDateUtc())));
+        }
+        if (launch.getRocket() != null) {
+            tags.add(rocket(launch.getRocket().getId()));
+        }
+        if (launch.getLaunchPad() != null) {
+            tags.add(launchPad(launch.getLaunchPad().getId()));
+        }
+        return tags;
+    }
+
+    /**
+     * Tag suffisant pour une liste filtrée
+     *
+     * Tout changement qui modifie le résultat concerne un lancement qui
+     * correspond au filtre avant ou après modification; les tags des deux
+     * états étant émis, le tag d'un seul critère d'égalité suffit. Le plus
+     * sélectif est retenu.
+     */
+    public static String forFilter(LaunchFilter filter) {
+        if (filter.year() != null) {
+            return year(filter.year());
+        }
+        if (filter.rocketId() != null) {
+            return rocket(filter.rocketId());
+        }
+        if (filter.launchPadId() != null) {
+            return launchPad(filter.launchPadId());
+        }
+        if (filter.success() != null) {
+            return success(filter.success());
+        }
+        return LAUNCHES;
+    }
+}
@@ -0,0 +1,50 @@
+package com.spacex.launcher.cache;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.cache.CacheManager;
+
+/**
+ * Index de tags en mémoire (instance unique, sans Redis)
+ */
+public class LocalCacheTagIndex extends CacheTagIndex {
+
+    private final ConcurrentMap<String, Set<String>> index = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public LocalCacheTagIndex(CacheManager cacheManager) {
+        super(cacheManager);
+    }
+
+    @Override
+    protected void addMembers(Collection<String> tags, String member) {
+        tags.forEach(tag -> index.computeIfAbsent(tag, t -> ConcurrentHashMap.newKeySet()).add(member));
+    }
+
+    @Override
+    protected Set<String> removeMembers(Collection<String> tags) {
+        Set<String> members = new HashSet<>();
+        tags.forEach(tag -> {
+            Set<String> tagged = index.remove(tag);
+            if (tagged != null) {
+                members.addAll(tagged);
+            }
+        });
+        return members;
+    }
+
+    @Override
+    protected long currentGeneration() {
+        return generation.get();
+    }
+
+    @Override
+    protected void nextGeneration() {
+        generation.incrementAndGet();
+    }
+}
@@ -0,0 +1,111 @@
+package com.spacex.launcher.cache;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Index de tags partagé entre les instances (un SET Redis par tag)
+ *
+ * Clés: spacex:v{N}:tags:{tag} -> { "cache\tclé", ... }
+ * Génération partagée: spacex:v{N}:tags:#generation (INCR à chaque invalidation)
+ *
+ * Pendant une panne Redis (disjoncteur ouvert) les entrées ne sont pas
+ * taguées; l'invalidation suivante vide alors tous les caches.
+ */
+public class RedisCacheTagIndex extends CacheTagIndex {
+
+    private static final String GENERATION_KEY = "#generation";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final AtomicBoolean missedTags = new AtomicBoolean();
+
+    public RedisCacheTagIndex(
+            CacheManager cacheManager,
+            StringRedisTemplate redisTemplate,
+            String keyPrefix,
+            RedisCircuitBreaker circuitBreaker) {
+        super(cacheManager);
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    protected void addMembers(Collection<String> tags, String member) {
+        if (circuitBreaker.isOpen()) {
+            missedTags.set(true);
+            return;
+        }
+
+        try {
+            for (String tag : tags) {
+                redisTemplate.opsForSet().add(keyPrefix + tag, member);
+            }
+        } catch (RuntimeException e) {
+            missedTags.set(true);
+            circuitBreaker.recordFailure(e);
+            throw e;
+        }
+    }
+
+    @Override
+    protected Set<String> removeMembers(Collection<String> tags) {
+        if (circuitBreaker.isOpen()) {
+            throw new IllegalStateException("Redis unavailable");
+        }
+        if (missedTags.getAndSet(false)) {
+            throw new IllegalStateException("Entries were cached without tags during a Redis outage");
+        }
+
+        Set<String> members = new HashSet<>();
+        try {
+            for (String tag : tags) {
+                // SPOP avec un grand compte: lecture et retrait atomiques
+                var tagged = redisTemplate.opsForSet().pop(keyPrefix + tag, Integer.MAX_VALUE);
+                if (tagged != null) {
+                    members.addAll(tagged);
+                }
+            }
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure(e);
+            throw e;
+        }
+        return members;
+    }
+
+    @Override
+    protected long currentGeneration() {
+        if (circuitBreaker.isOpen()) {
+            return UNKNOWN_GENERATION;
+        }
+
+        try {
+            String generation = redisTemplate.opsForValue().get(keyPrefix + GENERATION_KEY);
+            return generation != null ? Long.parseLong(generation) : 0;
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure(e);
+            throw e;
+        }
+    }
+
+    @Override
+    protected void nextGeneration() {
+        if (circuitBreaker.isOpen()) {
+            throw new IllegalStateException("Redis unavailable");
+        }
+
+        try {
+            redisTemplate.opsForValue().increment(keyPrefix + GENERATION_KEY);
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure(e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.spacex.launcher.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Disjoncteur de la connexion Redis partagé par tous les caches
+ *
+ * - Fermé: les opérations passent par Redis
+ * - Ouvert (après une erreur de connexion): Redis est court-circuité et une
+ * tâche de fond envoie un PING à intervalle régulier; au premier succès le
+ * disjoncteur se referme et les callbacks de reconnexion sont exécutés
+ */
+public class RedisCircuitBreaker implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(RedisCircuitBreaker.class);
+
+    private final RedisConnectionFactory connectionFactory;
+    private final Duration retryInterval;
+    private final ScheduledExecutorService scheduler;
+    private final List<Runnable> reconnectCallbacks = new CopyOnWriteArrayList<>();
+    private final AtomicReference<ScheduledFuture<?>> probe = new AtomicReference<>();
+
+    public RedisCircuitBreaker(RedisConnectionFactory connectionFactory, Duration retryInterval) {
+        this.connectionFactory = connectionFactory;
+        this.retryInterval = retryInterval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis-reconnect");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean isOpen() {
+        return probe.get() != null;
+    }
+
+    /**
+     * Enregistre une action exécutée quand Redis redevient disponible
+     */
+    public void onReconnect(Runnable callback) {
+        reconnectCallbacks.add(callback);
+    }
+
+    /**
+     * Ouvre le disjoncteur suite à une erreur Redis
+     */
+    public void recordFailure(Exception error) {
+        if (isOpen()) {
+            return;
+        }
+
+        ScheduledFuture<?> task = scheduler.scheduleWithFixedDelay(
+                this::tryReconnect, retryInterval.toMillis(), retryInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (probe.compareAndSet(null, task)) {
+            logger.warn("Redis unavailable ({}), switching caches to local fallback", error.getMessage());
+        } else {
+            task.cancel(false);
+        }
+    }
+
+    private void tryReconnect() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.ping();
+        } catch (Exception e) {
+            logger.debug("Redis still unavailable: {}", e.getMessage());
+            return;
+        }
+
+        ScheduledFuture<?> task = probe.getAndSet(null);
+        if (task != null) {
+            task.cancel(false);
+        }
+
+        logger.info("Redis connection restored, switching caches back to Redis");
+        for (Runnable callback : reconnectCallbacks) {
+            try {
+                callback.run();
+            } catch (Exception e) {
+                logger.warn("Redis reconnect callback failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
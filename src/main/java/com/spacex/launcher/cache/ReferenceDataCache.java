@@ -0,0 +1,43 @@
+package com.spacex.launcher.cache;
+
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.spacex.launcher.model.LaunchPad;
+import com.spacex.launcher.model.Rocket;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Cache de second niveau Hibernate des données de référence
+ *
+ * Rocket et LaunchPad (régions "rockets" et "launch-pads") et les requêtes
+ * de catalogue qui les listent (région QUERY_REGION). Le cache est local à
+ * l'instance: il est vidé à la fin de chaque synchronisation, les autres
+ * instances s'appuient sur l'expiration des régions (hibernate-cache.conf).
+ */
+@Component
+public class ReferenceDataCache {
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataCache.class);
+
+    /** Région des résultats de requêtes sur Rocket et LaunchPad */
+    public static final String QUERY_REGION = "reference-queries";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ReferenceDataCache(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Vide les entités et les requêtes de référence en cache
+     */
+    public void evictAll() {
+        entityManagerFactory.getCache().evict(Rocket.class);
+        entityManagerFactory.getCache().evict(LaunchPad.class);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(QUERY_REGION);
+        logger.debug("Reference data second-level cache evicted");
+    }
+}
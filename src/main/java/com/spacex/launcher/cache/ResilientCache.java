@@ -0,0 +1,164 @@
+package com.spacex.launcher.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Décorateur tolérant aux pannes d'un cache distant
+ *
+ * Les erreurs du cache distant sont journalisées et comptées
+ * (spacex.cache.errors), jamais propagées à l'appelant. Une erreur de
+ * connexion ouvre le disjoncteur: le cache bascule sur un cache local de
+ * secours jusqu'à la reconnexion. Si des écritures ou évictions ont été
+ * manquées pendant la panne, le cache distant est vidé à la reconnexion.
+ *
+ * Une valeur illisible (changement de format) est traitée comme un défaut de
+ * cache et supprimée, sans ouvrir le disjoncteur.
+ */
+public class ResilientCache implements Cache {
+    private static final Logger logger = LoggerFactory.getLogger(ResilientCache.class);
+
+    private final Cache remote;
+    private final Cache fallback;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean missedWrites = new AtomicBoolean();
+
+    public ResilientCache(Cache remote, Cache fallback, RedisCircuitBreaker circuitBreaker,
+            MeterRegistry meterRegistry) {
+        this.remote = remote;
+        this.fallback = fallback;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        circuitBreaker.onReconnect(this::resynchronize);
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        if (circuitBreaker.isOpen()) {
+            return fallback.get(key);
+        }
+        return read("get", key, () -> remote.get(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (!circuitBreaker.isOpen() && write("put", () -> remote.put(key, value))) {
+            return;
+        }
+        fallback.put(key, value);
+        missedWrites.set(true);
+    }
+
+    @Override
+    public void evict(Object key) {
+        fallback.evict(key);
+        if (circuitBreaker.isOpen() || !write("evict", () -> remote.evict(key))) {
+            missedWrites.set(true);
+        }
+    }
+
+    @Override
+    public void clear() {
+        fallback.clear();
+        if (circuitBreaker.isOpen() || !write("clear", remote::clear)) {
+            missedWrites.set(true);
+        }
+    }
+
+    /**
+     * Après une panne: le cache distant peut contenir des entrées qui auraient
+     * dû être évincées, on le vide
+     */
+    private void resynchronize() {
+        fallback.clear();
+        if (missedWrites.getAndSet(false) && !write("clear", remote::clear)) {
+            missedWrites.set(true);
+        }
+    }
+
+    private ValueWrapper read(String operation, Object key, Supplier<ValueWrapper> call) {
+        try {
+            return call.get();
+        } catch (SerializationException e) {
+            countError(operation, e);
+            logger.warn("Unreadable value in cache '{}' for key {}, evicting: {}", getName(), key, e.getMessage());
+            write("evict", () -> remote.evict(key));
+            return null;
+        } catch (RuntimeException e) {
+            countError(operation, e);
+            circuitBreaker.recordFailure(e);
+            return fallback.get(key);
+        }
+    }
+
+    private boolean write(String operation, Runnable call) {
+        try {
+            call.run();
+            return true;
+        } catch (RuntimeException e) {
+            countError(operation, e);
+            if (!(e instanceof SerializationException)) {
+                circuitBreaker.recordFailure(e);
+            }
+            return false;
+        }
+    }
+
+    private void countError(String operation, RuntimeException error) {
+        logger.debug("Cache '{}' {} failed: {}", getName(), operation, error.getMessage());
+        meterRegistry.counter("spacex.cache.errors",
+                "cache", getName(),
+                "operation", operation,
+                "exception", error.getClass().getSimpleName())
+                .increment();
+    }
+}
@@ -0,0 +1,70 @@
+package com.spacex.launcher.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * CacheManager enveloppant chaque cache distant dans un ResilientCache
+ *
+ * Le cache de secours de chaque nom est un Caffeine borné, utilisé
+ * uniquement pendant une panne Redis.
+ */
+public class ResilientCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final long fallbackMaximumSize;
+    private final Duration fallbackTtl;
+
+    private final ConcurrentMap<String, ResilientCache> caches = new ConcurrentHashMap<>();
+
+    public ResilientCacheManager(
+            CacheManager remoteCacheManager,
+            RedisCircuitBreaker circuitBreaker,
+            MeterRegistry meterRegistry,
+            long fallbackMaximumSize,
+            Duration fallbackTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        this.fallbackMaximumSize = fallbackMaximumSize;
+        this.fallbackTtl = fallbackTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        ResilientCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> new ResilientCache(
+                remote,
+                new CaffeineCache(name, Caffeine.newBuilder()
+                        .maximumSize(fallbackMaximumSize)
+                        .expireAfterWrite(fallbackTtl)
+                        .build()),
+                circuitBreaker,
+                meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+}
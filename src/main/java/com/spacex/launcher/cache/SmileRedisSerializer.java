@@ -0,0 +1,124 @@
+package com.spacex.launcher.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Codec binaire des valeurs de cache: Jackson Smile typé + compression
+ * optionnelle
+ *
+ * Format: 1 octet d'en-tête (0 = brut, 1 = deflate) suivi du document Smile.
+ * Le type est connu par cache: aucune information de classe n'est stockée.
+ * Toute évolution incompatible des projections doit incrémenter
+ * SCHEMA_VERSION (préfixe des clés Redis).
+ */
+public class SmileRedisSerializer<T> implements RedisSerializer<T> {
+
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATED = 1;
+
+    private final ObjectMapper smileMapper;
+    private final JavaType type;
+    private final int compressionThreshold;
+
+    public SmileRedisSerializer(ObjectMapper smileMapper, JavaType type, int compressionThreshold) {
+        this.smileMapper = smileMapper;
+        this.type = type;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] body;
+        try {
+            body = smileMapper.writerFor(type).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write Smile value of type " + type, e);
+        }
+
+        if (body.length >= compressionThreshold) {
+            return frame(DEFLATED, deflate(body));
+        }
+        return frame(RAW, body);
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        byte[] body = Arrays.copyOfRange(bytes, 1, bytes.length);
+        if (bytes[0] == DEFLATED) {
+            body = inflate(body);
+        } else if (bytes[0] != RAW) {
+            throw new SerializationException("Unknown cache codec header: " + bytes[0]);
+        }
+
+        try {
+            return smileMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read Smile value of type " + type, e);
+        }
+    }
+
+    private static byte[] frame(byte header, byte[] body) {
+        byte[] framed = new byte[body.length + 1];
+        framed[0] = header;
+        System.arraycopy(body, 0, framed, 1, body.length);
+        return framed;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2 + 16);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 4);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new SerializationException("Truncated compressed cache value");
+                }
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new SerializationException("Corrupted compressed cache value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.spacex.launcher.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * Cache à deux niveaux
+ * - L1: Caffeine local à l'instance (borné en taille, TTL court)
+ * - L2: cache distant partagé (Redis)
+ *
+ * Les lectures passent par L1 puis L2 (read-through). Toute écriture ou
+ * éviction est diffusée aux autres instances pour qu'elles purgent leur L1.
+ *
+ * Un défaut L2 est calculé par une seule instance du cluster
+ * (CacheLoadLock); les autres attendent la valeur dans L2.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheLoadLock loadLock;
+
+    public TwoLevelCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+            Cache remote,
+            CacheInvalidationBus invalidationBus,
+            CacheLoadLock loadLock) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationBus = invalidationBus;
+        this.loadLock = loadLock;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            return wrap(value);
+        }
+
+        ValueWrapper remoteValue = remote.get(key);
+        if (remoteValue != null) {
+            local.put(localKey, toStoreValue(remoteValue.get()));
+        }
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Lecture avec chargement: Caffeine garantit qu'un seul appelant par clé
+     * et par instance consulte L2; sur un défaut L2, le verrou de chargement
+     * garantit qu'une seule instance exécute le valueLoader
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = local.get(toLocalKey(key), localKey -> {
+            ValueWrapper remoteValue = remote.get(key);
+            if (remoteValue != null) {
+                return toStoreValue(remoteValue.get());
+            }
+
+            String lockKey = name + ":" + localKey;
+            String token = loadLock.tryAcquire(lockKey);
+            if (token == null) {
+                remoteValue = awaitRemote(key, lockKey);
+                if (remoteValue != null) {
+                    return toStoreValue(remoteValue.get());
+                }
+                // Propriétaire en échec ou trop lent: calcul local
+            }
+
+            try {
+                T loaded;
+                try {
+                    loaded = valueLoader.call();
+                } catch (Exception e) {
+                    throw new ValueRetrievalException(key, valueLoader, e);
+                }
+                remote.put(key, loaded);
+                return toStoreValue(loaded);
+            } finally {
+                loadLock.release(lockKey, token);
+            }
+        });
+        return (T) fromStoreValue(value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = toLocalKey(key);
+        local.put(localKey, toStoreValue(value));
+        invalidationBus.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = toLocalKey(key);
+        local.invalidate(localKey);
+        invalidationBus.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationBus.publishClear(name);
+    }
+
+    /**
+     * Purge L1 uniquement (invalidation reçue d'une autre instance)
+     */
+    public void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    /**
+     * Vide L1 uniquement (invalidation reçue d'une autre instance)
+     */
+    public void clearLocal() {
+        local.invalidateAll();
+    }
+
+    /**
+     * Attend la valeur calculée par l'instance qui détient le verrou, au plus
+     * le TTL du verrou
+     *
+     * @return Valeur L2, null si le verrou a été libéré sans valeur ou a expiré
+     */
+    private ValueWrapper awaitRemote(Object key, String lockKey) {
+        long deadline = System.nanoTime() + loadLock.ttl().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(loadLock.pollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            ValueWrapper remoteValue = remote.get(key);
+            if (remoteValue != null || !loadLock.isHeld(lockKey)) {
+                return remoteValue;
+            }
+        }
+        return null;
+    }
+
+    private static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static Object toStoreValue(Object value) {
+        return value != null ? value : NullValue.INSTANCE;
+    }
+
+    private static Object fromStoreValue(Object value) {
+        return value == NullValue.INSTANCE ? null : value;
+    }
+
+    private static ValueWrapper wrap(Object storeValue) {
+        return new SimpleValueWrapper(fromStoreValue(storeValue));
+    }
+}
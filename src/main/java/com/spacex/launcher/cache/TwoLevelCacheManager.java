@@ -0,0 +1,89 @@
+package com.spacex.launcher.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * CacheManager combinant un L1 Caffeine par instance et un L2 distant
+ *
+ * Chaque cache du gestionnaire distant (Redis) est enveloppé dans un
+ * TwoLevelCache. Les invalidations reçues des autres instances sont
+ * appliquées au L1 correspondant; les défauts L2 sont calculés sous
+ * CacheLoadLock.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+    private static final Logger logger = LoggerFactory.getLogger(TwoLevelCacheManager.class);
+
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheLoadLock loadLock;
+    private final long localMaximumSize;
+    private final Duration localTtl;
+
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            CacheManager remoteCacheManager,
+            CacheInvalidationBus invalidationBus,
+            CacheLoadLock loadLock,
+            long localMaximumSize,
+            Duration localTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationBus = invalidationBus;
+        this.loadLock = loadLock;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+        invalidationBus.onInvalidation(this::applyRemoteInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            throw new IllegalStateException("No remote cache named '" + name + "'");
+        }
+
+        logger.debug("Creating two-level cache '{}' (L1 maxSize={}, ttl={})", name, localMaximumSize, localTtl);
+        return new TwoLevelCache(
+                name,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaximumSize)
+                        .expireAfterWrite(localTtl)
+                        .build(),
+                remote,
+                invalidationBus,
+                loadLock);
+    }
+
+    private void applyRemoteInvalidation(CacheInvalidation invalidation) {
+        TwoLevelCache cache = caches.get(invalidation.cacheName());
+        if (cache == null) {
+            return;
+        }
+
+        if (invalidation.isClear()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(invalidation.key());
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 
 import com.spacex.launcher.dto.spacex.LaunchDto;
 import com.spacex.launcher.dto.spacex.LaunchPadDto;
+import com.spacex.launcher.dto.spacex.PayloadDto;
 import com.spacex.launcher.dto.spacex.RocketDto;
 
 import reactor.core.publisher.Flux;
@@ -54,6 +55,23 @@ public class SpaceXClient {
                                 .doOnError(error -> logger.error("Error fetching launches", error));
         }
 
+        /**
+         * Récupère tous les payloads (orbite, client, masse...)
+         * Les lancements ne portent que les IDs de leurs payloads
+         *
+         * @return Flux de PayloadDto
+         */
+        public Flux<PayloadDto> getAllPayloads() {
+                logger.debug("Fetching all payloads from SpaceX API");
+                return webClient.get()
+                                .uri("/v4/payloads")
+                                .retrieve()
+                                .bodyToFlux(PayloadDto.class)
+                                .timeout(Duration.ofSeconds(TIMEOUT_SECONDS))
+                                .doOnComplete(() -> logger.info("Successfully fetched all payloads"))
+                                .doOnError(error -> logger.error("Error fetching payloads", error));
+        }
+
         /**
          * Récupère les détails d'une fusée
          *
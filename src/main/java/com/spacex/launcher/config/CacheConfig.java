@@ -0,0 +1,174 @@
+package com.spacex.launcher.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.spacex.launcher.cache.CacheInvalidationBus;
+import com.spacex.launcher.cache.CacheLoadLock;
+import com.spacex.launcher.cache.CacheNames;
+import com.spacex.launcher.cache.CacheTagIndex;
+import com.spacex.launcher.cache.RedisCacheTagIndex;
+import com.spacex.launcher.cache.RedisCircuitBreaker;
+import com.spacex.launcher.cache.ResilientCacheManager;
+import com.spacex.launcher.cache.SmileRedisSerializer;
+import com.spacex.launcher.cache.TwoLevelCacheManager;
+import com.spacex.launcher.dto.LaunchPage;
+import com.spacex.launcher.dto.LaunchStats;
+import com.spacex.launcher.dto.YearlyStats;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration du cache à deux niveaux
+ * L1 Caffeine (par instance) devant L2 Redis (partagé)
+ *
+ * Les valeurs Redis sont des projections immuables encodées en Smile
+ * (binaire) avec compression au-delà d'un seuil. Les clés sont préfixées par
+ * la version de schéma: spacex:v{N}:{cache}::{clé}. L'index des tags
+ * d'invalidation est partagé dans Redis (spacex:v{N}:tags:{tag}), de même
+ * que les verrous de chargement des défauts L2 (spacex:v{N}:lock:{cache}:{clé}).
+ *
+ * Une panne Redis ouvre un disjoncteur commun: le L2 bascule sur un cache
+ * Caffeine de secours et une tâche de fond tente la reconnexion.
+ *
+ * Actif uniquement si spring.cache.type=redis (désactivé en test)
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+public class CacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheConfig.class);
+
+    private static final String KEY_PREFIX = "spacex:v" + SmileRedisSerializer.SCHEMA_VERSION + ":";
+
+    @Bean
+    public RedisCircuitBreaker redisCircuitBreaker(
+            RedisConnectionFactory connectionFactory,
+            MeterRegistry meterRegistry,
+            @Value("${spacex.cache.redis.retry-interval:5s}") Duration retryInterval) {
+        RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(connectionFactory, retryInterval);
+        Gauge.builder("spacex.cache.redis.available", circuitBreaker, breaker -> breaker.isOpen() ? 0 : 1)
+                .description("1 when Redis backs the shared cache, 0 when the local fallback is active")
+                .register(meterRegistry);
+        return circuitBreaker;
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(
+            StringRedisTemplate redisTemplate,
+            RedisCircuitBreaker redisCircuitBreaker) {
+        return new CacheInvalidationBus(redisTemplate, redisCircuitBreaker);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            CacheInvalidationBus cacheInvalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        return container;
+    }
+
+    @Bean
+    public CacheTagIndex cacheTagIndex(
+            CacheManager cacheManager,
+            StringRedisTemplate redisTemplate,
+            RedisCircuitBreaker redisCircuitBreaker) {
+        return new RedisCacheTagIndex(cacheManager, redisTemplate, KEY_PREFIX + "tags:", redisCircuitBreaker);
+    }
+
+    @Bean
+    public CacheLoadLock cacheLoadLock(
+            StringRedisTemplate redisTemplate,
+            RedisCircuitBreaker redisCircuitBreaker,
+            @Value("${spacex.cache.load-lock.ttl:10s}") Duration ttl,
+            @Value("${spacex.cache.load-lock.poll-interval:50ms}") Duration pollInterval) {
+        return new CacheLoadLock(redisTemplate, KEY_PREFIX + "lock:", ttl, pollInterval, redisCircuitBreaker);
+    }
+
+    @Bean
+    public CacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            CacheInvalidationBus cacheInvalidationBus,
+            CacheLoadLock cacheLoadLock,
+            RedisCircuitBreaker redisCircuitBreaker,
+            MeterRegistry meterRegistry,
+            @Value("${spacex.cache.local.maximum-size:1000}") long localMaximumSize,
+            @Value("${spacex.cache.local.ttl:5m}") Duration localTtl,
+            @Value("${spacex.cache.compression-threshold:1024}") int compressionThreshold,
+            @Value("${spacex.cache.ttl:1h}") Duration ttl,
+            @Value("${spacex.cache.fallback.maximum-size:5000}") long fallbackMaximumSize) {
+
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory())
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        // TTL de sécurité: borne la durée de vie d'une entrée calculée pendant une synchronisation
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
+                .prefixCacheNameWith(KEY_PREFIX);
+
+        JavaType launchStatsType = smileMapper.constructType(LaunchStats.class);
+        JavaType yearlyStatsType = smileMapper.constructType(YearlyStats.class);
+        JavaType launchYearsType = smileMapper.getTypeFactory()
+                .constructCollectionType(List.class, Integer.class);
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                .withInitialCacheConfigurations(Map.of(
+                        CacheNames.LAUNCH_STATS,
+                        valuesAs(defaults, smileMapper, launchStatsType, compressionThreshold),
+                        CacheNames.YEARLY_STATS,
+                        valuesAs(defaults, smileMapper, yearlyStatsType, compressionThreshold),
+                        CacheNames.LAUNCH_YEARS,
+                        valuesAs(defaults, smileMapper, launchYearsType, compressionThreshold),
+                        CacheNames.LAUNCH_PAGES,
+                        valuesAs(defaults, smileMapper, smileMapper.constructType(LaunchPage.class),
+                                compressionThreshold),
+                        CacheNames.LAUNCH_COUNTS,
+                        valuesAs(defaults, smileMapper, smileMapper.constructType(Long.class),
+                                compressionThreshold)))
+                .disableCreateOnMissingCache()
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        logger.info("Two-level cache enabled: L1 Caffeine (maxSize={}, ttl={}) -> L2 Redis (Smile v{}), node={}",
+                localMaximumSize, localTtl, SmileRedisSerializer.SCHEMA_VERSION, cacheInvalidationBus.getNodeId());
+        ResilientCacheManager resilientCacheManager = new ResilientCacheManager(
+                redisCacheManager, redisCircuitBreaker, meterRegistry, fallbackMaximumSize, ttl);
+        return new TwoLevelCacheManager(
+                resilientCacheManager, cacheInvalidationBus, cacheLoadLock, localMaximumSize, localTtl);
+    }
+
+    private static RedisCacheConfiguration valuesAs(
+            RedisCacheConfiguration defaults,
+            ObjectMapper smileMapper,
+            JavaType type,
+            int compressionThreshold) {
+        return defaults.serializeValuesWith(SerializationPair.fromSerializer(
+                new SmileRedisSerializer<>(smileMapper, type, compressionThreshold)));
+    }
+}
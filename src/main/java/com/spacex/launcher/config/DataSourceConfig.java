@@ -0,0 +1,106 @@
+package com.spacex.launcher.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.spacex.launcher.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Routage des lectures vers des réplicas PostgreSQL
+ *
+ * Un pool Hikari par base: "primary" (spring.datasource.*) et "replica-N"
+ * (une URL par réplica, mêmes identifiants). Les transactions readOnly sont
+ * servies par un réplica dont le retard est sous spacex.datasource.replica-max-lag,
+ * tout le reste (synchronisation, authentification, admin, Flyway) par le
+ * primaire, ainsi que les lectures qui suivent une publication
+ * (ReplicaRoutingDataSource.onPrimary).
+ *
+ * Métriques des pools: hikaricp.*{pool}
+ *
+ * Actif uniquement si spacex.datasource.replica-urls est renseigné; sinon
+ * la DataSource auto-configurée par Spring Boot est utilisée telle quelle.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spacex.datasource.replica-urls")
+public class DataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceConfig.class);
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.hikari.connection-timeout:5000}") long connectionTimeoutMs) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        configurePool(dataSource, ReplicaRoutingDataSource.PRIMARY, connectionTimeoutMs, meterRegistry);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${spacex.datasource.replica-urls}") List<String> replicaUrls,
+            @Value("${spacex.datasource.replica-max-lag:5s}") Duration maxLag,
+            @Value("${spacex.datasource.replica-check-interval:2s}") Duration checkInterval,
+            @Value("${spring.datasource.hikari.connection-timeout:5000}") long connectionTimeoutMs) {
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(properties.determineUsername());
+            replica.setPassword(properties.determinePassword());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setReadOnly(true);
+            // Pas de connexion à la création: un réplica absent ne bloque pas le démarrage
+            replica.setInitializationFailTimeout(-1);
+            configurePool(replica, name, connectionTimeoutMs, meterRegistry);
+            replicas.add(new ReplicaRoutingDataSource.Replica(name, replica));
+        }
+
+        logger.info("Read-only transactions routed to {} replica(s), max lag {}", replicas.size(), maxLag);
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLag, checkInterval, meterRegistry);
+    }
+
+    /**
+     * DataSource de l'application (JPA, JdbcTemplate, Flyway)
+     * La connexion n'est obtenue qu'au premier ordre SQL, une fois le
+     * drapeau readOnly de la transaction connu du routage.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static void configurePool(
+            HikariDataSource dataSource,
+            String name,
+            long connectionTimeoutMs,
+            MeterRegistry meterRegistry) {
+        dataSource.setPoolName(name);
+        dataSource.setConnectionTimeout(connectionTimeoutMs);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    }
+}
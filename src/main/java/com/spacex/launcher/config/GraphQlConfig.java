@@ -0,0 +1,111 @@
+package com.spacex.launcher.config;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.RuntimeWiringConfigurer;
+
+import graphql.GraphQLContext;
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.CoercedVariables;
+import graphql.language.StringValue;
+import graphql.schema.Coercing;
+import graphql.schema.CoercingParseLiteralException;
+import graphql.schema.CoercingParseValueException;
+import graphql.schema.CoercingSerializeException;
+import graphql.schema.GraphQLScalarType;
+
+/**
+ * Configuration de l'endpoint GraphQL (schéma: graphql/schema.graphqls)
+ *
+ * Les requêtes trop profondes ou trop coûteuses sont rejetées avant toute
+ * exécution (aucune requête SQL):
+ * - profondeur maximale: spacex.graphql.max-depth
+ * - complexité maximale: spacex.graphql.max-complexity, un point par champ,
+ * multiplié par l'argument size des listes paginées (coût d'une page
+ * entière de lancements et de leurs sous-champs)
+ */
+@Configuration
+public class GraphQlConfig {
+
+    /** Taille de page appliquée par les contrôleurs GraphQL */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    @Bean
+    public RuntimeWiringConfigurer dateTimeScalar() {
+        GraphQLScalarType dateTime = GraphQLScalarType.newScalar()
+                .name("DateTime")
+                .description("Instant UTC au format ISO-8601")
+                .coercing(new InstantCoercing())
+                .build();
+        return wiring -> wiring.scalar(dateTime);
+    }
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(
+            @Value("${spacex.graphql.max-depth:8}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            @Value("${spacex.graphql.max-complexity:2000}") int maxComplexity) {
+        return new MaxQueryComplexityInstrumentation(maxComplexity, pageSizeComplexity());
+    }
+
+    /**
+     * Coût d'un champ: 1 + ses sous-champs, fois la taille de page demandée
+     * (bornée comme à l'exécution) pour les champs paginés
+     */
+    static FieldComplexityCalculator pageSizeComplexity() {
+        return (environment, childComplexity) -> {
+            int cost = 1 + childComplexity;
+            if (environment.getArguments().get("size") instanceof Integer size) {
+                return cost * Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            }
+            return cost;
+        };
+    }
+
+    /**
+     * Scalaire DateTime: Instant <-> chaîne ISO-8601
+     */
+    private static final class InstantCoercing implements Coercing<Instant, String> {
+
+        @Override
+        public String serialize(Object value, GraphQLContext context, Locale locale) {
+            if (value instanceof Instant instant) {
+                return instant.toString();
+            }
+            throw new CoercingSerializeException("Expected an Instant but was " + value.getClass().getName());
+        }
+
+        @Override
+        public Instant parseValue(Object input, GraphQLContext context, Locale locale) {
+            try {
+                return Instant.parse(input.toString());
+            } catch (DateTimeParseException e) {
+                throw new CoercingParseValueException("Invalid ISO-8601 instant: " + input);
+            }
+        }
+
+        @Override
+        public Instant parseLiteral(graphql.language.Value<?> input, CoercedVariables variables, GraphQLContext context,
+                Locale locale) {
+            if (input instanceof StringValue string) {
+                try {
+                    return Instant.parse(string.getValue());
+                } catch (DateTimeParseException e) {
+                    throw new CoercingParseLiteralException("Invalid ISO-8601 instant: " + string.getValue());
+                }
+            }
+            throw new CoercingParseLiteralException("Expected an ISO-8601 string");
+        }
+    }
+}
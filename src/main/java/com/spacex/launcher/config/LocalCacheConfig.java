@@ -0,0 +1,23 @@
+package com.spacex.launcher.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.spacex.launcher.cache.CacheTagIndex;
+import com.spacex.launcher.cache.LocalCacheTagIndex;
+
+/**
+ * Index de tags en mémoire quand le cache Redis n'est pas utilisé
+ * (profil de test, spring.cache.type=none)
+ */
+@Configuration
+@ConditionalOnExpression("'${spring.cache.type:}' != 'redis'")
+public class LocalCacheConfig {
+
+    @Bean
+    public CacheTagIndex cacheTagIndex(CacheManager cacheManager) {
+        return new LocalCacheTagIndex(cacheManager);
+    }
+}
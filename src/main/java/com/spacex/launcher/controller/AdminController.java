@@ -1,15 +1,28 @@
 package com.spacex.launcher.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.spacex.launcher.dto.ImportReport;
+import com.spacex.launcher.service.ArrowExportService;
+import com.spacex.launcher.service.LaunchImportService;
 import com.spacex.launcher.service.LaunchService;
 
 /**
@@ -21,10 +34,20 @@ import com.spacex.launcher.service.LaunchService;
 public class AdminController {
 
     private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
+    /** Type MIME du format fichier Arrow IPC */
+    private static final MediaType ARROW_FILE = MediaType.parseMediaType("application/vnd.apache.arrow.file");
+
     private final LaunchService launchService;
+    private final ArrowExportService arrowExportService;
+    private final LaunchImportService launchImportService;
 
-    public AdminController(LaunchService launchService) {
+    public AdminController(
+            LaunchService launchService,
+            ArrowExportService arrowExportService,
+            LaunchImportService launchImportService) {
         this.launchService = launchService;
+        this.arrowExportService = arrowExportService;
+        this.launchImportService = launchImportService;
     }
 
     /**
@@ -57,4 +80,51 @@ public class AdminController {
                             "message", "Synchronization failed: " + e.getMessage()));
         }
     }
+
+    /**
+     * Export colonnaire d'une table (Arrow IPC, compatible Feather v2)
+     * GET /admin/export/{launches|payloads|rockets|launchpads}
+     *
+     * Chargement direct: pandas.read_feather("launches.arrow")
+     */
+    @GetMapping("/export/{dataset}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportArrow(@PathVariable String dataset) {
+        ArrowExportService.Dataset table;
+        try {
+            table = ArrowExportService.Dataset.fromPath(dataset);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+
+        logger.info("Admin triggered Arrow export of {}", table.path());
+        StreamingResponseBody body = out -> arrowExportService.export(table, out);
+        return ResponseEntity.ok()
+                .contentType(ARROW_FILE)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + table.path() + ".arrow\"")
+                .body(body);
+    }
+
+    /**
+     * Import en masse au format NDJSON (une ligne LaunchDto ou PayloadDto par objet)
+     * POST /admin/import?dataset=launches|payloads
+     *
+     * Le corps est lu en flux et chargé par COPY; les lignes invalides sont
+     * rejetées et listées dans le bilan.
+     */
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ImportReport importNdjson(
+            @RequestParam(defaultValue = "launches") String dataset,
+            InputStream body) throws IOException {
+        LaunchImportService.Dataset table;
+        try {
+            table = LaunchImportService.Dataset.parse(dataset);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown dataset: " + dataset);
+        }
+
+        logger.info("Admin triggered NDJSON import of {}", table.path());
+        return launchImportService.importNdjson(table, body);
+    }
 }
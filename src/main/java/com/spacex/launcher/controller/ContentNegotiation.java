@@ -0,0 +1,73 @@
+package com.spacex.launcher.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.spacex.launcher.config.WebConfig;
+
+/**
+ * Choix du format et de l'encodage des réponses servies en octets
+ * (corps précalculés ou mis en cache déjà sérialisés)
+ */
+final class ContentNegotiation {
+
+    /** Formats des DTO du tableau de bord, par ordre de préférence */
+    static final List<MediaType> DASHBOARD_FORMATS =
+            List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, WebConfig.APPLICATION_SMILE);
+
+    private ContentNegotiation() {
+    }
+
+    /**
+     * Format proposé le mieux placé dans Accept: qualité la plus haute, le
+     * premier proposé en cas d'égalité (JSON pour un client sans préférence)
+     *
+     * @throws ResponseStatusException 406 si aucun format ne convient
+     */
+    static MediaType negotiate(String accept, List<MediaType> offered) {
+        if (accept == null || accept.isBlank()) {
+            return offered.get(0);
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid Accept header");
+        }
+
+        MediaType best = null;
+        double bestQuality = 0;
+        for (MediaType offer : offered) {
+            for (MediaType acceptedType : accepted) {
+                if (acceptedType.includes(offer) && acceptedType.getQualityValue() > bestQuality) {
+                    best = offer;
+                    bestQuality = acceptedType.getQualityValue();
+                }
+            }
+        }
+        if (best == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE, "Supported formats: " + offered);
+        }
+        return best;
+    }
+
+    /**
+     * Accept-Encoding autorise gzip (hors "gzip;q=0")
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            if (tokens[0].trim().equalsIgnoreCase("gzip")) {
+                return tokens.length < 2 || !tokens[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -1,24 +1,55 @@
 package com.spacex.launcher.controller;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.spacex.launcher.dto.LaunchStats;
-import com.spacex.launcher.dto.YearlyStats;
-import com.spacex.launcher.model.Launch;
+import com.spacex.launcher.cache.CacheKeys;
+import com.spacex.launcher.dto.AutocompleteSuggestion;
+import com.spacex.launcher.dto.CatalogPage;
+import com.spacex.launcher.dto.LaunchChangeFeed;
+import com.spacex.launcher.dto.LaunchCursor;
+import com.spacex.launcher.dto.LaunchBatch;
+import com.spacex.launcher.dto.LaunchBatchRequest;
+import com.spacex.launcher.dto.LaunchDetail;
+import com.spacex.launcher.dto.LaunchFilter;
+import com.spacex.launcher.dto.LaunchPadSummary;
+import com.spacex.launcher.dto.LaunchSearchResult;
+import com.spacex.launcher.dto.NearbyLaunchPad;
+import com.spacex.launcher.dto.PayloadSummary;
+import com.spacex.launcher.dto.RocketSummary;
+import com.spacex.launcher.service.AutocompleteService;
+import com.spacex.launcher.service.CatalogService;
+import com.spacex.launcher.service.ChangeFeedService;
+import com.spacex.launcher.service.DashboardBootstrapService;
+import com.spacex.launcher.service.LaunchExportService;
+import com.spacex.launcher.service.LaunchPadGeoService;
+import com.spacex.launcher.service.LaunchSearchService;
 import com.spacex.launcher.service.LaunchService;
 
 /**
@@ -26,26 +57,81 @@ import com.spacex.launcher.service.LaunchService;
  * Accessible aux utilisateurs authentifiés (USER et ADMIN)
  *
  * IMPORTANT: Pas de préfixe /api car géré par server.servlet.context-path
+ *
+ * KPIs, stats et listes portent un ETag fort lié à la version du jeu de
+ * données (et au prochain lancement pour les KPIs): un client à jour reçoit
+ * un 304 sans appel aux services. Leur corps est en plus gardé sérialisé et
+ * compressé jusqu'à la version suivante.
  */
 @RestController
 @RequestMapping("/dashboard")
 public class DashboardController {
 
     private static final Logger logger = LoggerFactory.getLogger(DashboardController.class);
+
+    /** Taille maximale d'une tranche en pagination par curseur */
+    private static final int MAX_SLICE_SIZE = 100;
+
+    /** Taille maximale d'une page de résultats de recherche */
+    private static final int MAX_SEARCH_SIZE = 50;
+
+    /** Dernière page de résultats de recherche accessible (pertinence décroissante) */
+    private static final int MAX_SEARCH_PAGE = 1000;
+
+    /** Longueur maximale d'une requête de recherche */
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    /** Taille maximale d'une page du catalogue */
+    private static final int MAX_CATALOG_SIZE = 100;
+
+    /** Nombre maximum de sites renvoyés par une recherche géographique */
+    private static final int MAX_NEAREST = 100;
+
+    /** Nombre maximum d'IDs d'une consultation groupée */
+    private static final int MAX_BATCH_IDS = 100;
+
     private final LaunchService launchService;
+    private final LaunchSearchService launchSearchService;
+    private final CatalogService catalogService;
+    private final AutocompleteService autocompleteService;
+    private final LaunchPadGeoService launchPadGeoService;
+    private final ChangeFeedService changeFeedService;
+    private final LaunchExportService launchExportService;
+    private final DashboardBootstrapService dashboardBootstrapService;
+    private final DatasetETags datasetETags;
 
-    public DashboardController(LaunchService launchService) {
+    public DashboardController(
+            LaunchService launchService,
+            LaunchSearchService launchSearchService,
+            CatalogService catalogService,
+            AutocompleteService autocompleteService,
+            LaunchPadGeoService launchPadGeoService,
+            ChangeFeedService changeFeedService,
+            LaunchExportService launchExportService,
+            DashboardBootstrapService dashboardBootstrapService,
+            DatasetETags datasetETags) {
         this.launchService = launchService;
+        this.launchSearchService = launchSearchService;
+        this.catalogService = catalogService;
+        this.autocompleteService = autocompleteService;
+        this.launchPadGeoService = launchPadGeoService;
+        this.changeFeedService = changeFeedService;
+        this.launchExportService = launchExportService;
+        this.dashboardBootstrapService = dashboardBootstrapService;
+        this.datasetETags = datasetETags;
     }
 
     /**
      * Récupère les KPIs globaux
      * GET /dashboard/kpis
+     *
+     * Le prochain lancement change aussi quand sa date passe: l'ETag suit
+     * les dates des lancements à venir de la version publiée
      */
     @GetMapping("/kpis")
-    public ResponseEntity<LaunchStats> getKpis(Authentication authentication) {
+    public ResponseEntity<byte[]> getKpis(WebRequest request, Authentication authentication) {
         logger.debug("User '{}' fetching KPIs", authentication.getName());
-        return ResponseEntity.ok(launchService.getGlobalStats());
+        return datasetETags.respondCached(request, "kpis", true, launchService::getGlobalStats);
     }
 
     /**
@@ -53,41 +139,120 @@ public class DashboardController {
      * GET /dashboard/stats/yearly
      */
     @GetMapping("/stats/yearly")
-    public ResponseEntity<List<YearlyStats>> getYearlyStats(Authentication authentication) {
+    public ResponseEntity<byte[]> getYearlyStats(WebRequest request, Authentication authentication) {
         logger.debug("User '{}' fetching yearly stats", authentication.getName());
-        return ResponseEntity.ok(launchService.getYearlyStats());
+        return datasetETags.respondCached(request, "stats/yearly", launchService::getYearlyStats);
+    }
+
+    /**
+     * Données du premier affichage en un seul appel
+     * GET /dashboard/bootstrap
+     *
+     * KPIs, stats annuelles et première page de lancements (voir
+     * DashboardBootstrap), précalculés à chaque version du jeu de données:
+     * corps envoyé tel quel dans le format demandé (JSON par défaut, CBOR,
+     * Smile), déjà compressé si le client accepte gzip.
+     */
+    @GetMapping("/bootstrap")
+    public ResponseEntity<byte[]> getBootstrap(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request,
+            Authentication authentication) {
+
+        MediaType format = ContentNegotiation.negotiate(accept, ContentNegotiation.DASHBOARD_FORMATS);
+        logger.debug("User '{}' fetching dashboard bootstrap as {}", authentication.getName(), format);
+
+        // Comme les KPIs: ETag distinct dès que le prochain lancement change
+        boolean gzip = ContentNegotiation.acceptsGzip(acceptEncoding);
+        return datasetETags.respondEncoded(request, "bootstrap", true, format, gzip,
+                version -> dashboardBootstrapService.current(version).body(format, gzip));
+    }
+
+    /**
+     * Récupère la liste des lancements par curseur (keyset)
+     * GET /dashboard/launches?cursor=&size=20 puis ?cursor={nextCursor}&size=20
+     *
+     * La présence du paramètre cursor (vide pour la première tranche)
+     * sélectionne ce mode; tri fixe par date DESC. Mêmes filtres que la
+     * pagination classique.
+     *
+     * @param cursor       Curseur opaque renvoyé par la tranche précédente
+     * @param filter       Filtres combinables (optionnels)
+     * @param includeTotal Renvoyer aussi le nombre total (mis en cache)
+     */
+    @GetMapping(value = "/launches", params = "cursor")
+    public ResponseEntity<byte[]> getLaunchSlice(
+            @RequestParam String cursor,
+            @ModelAttribute LaunchFilter filter,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            WebRequest request,
+            Authentication authentication) {
+
+        LaunchCursor after;
+        try {
+            after = cursor.isEmpty() ? null : LaunchCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+        int sliceSize = Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+
+        logger.info("User '{}' fetching launch slice (filter={}, size={})",
+                authentication.getName(), filter.cacheKey(), sliceSize);
+
+        String resource = "launches:cursor|" + filter.cacheKey() + "|" + cursor + "|" + sliceSize + "|" + includeTotal;
+        return datasetETags.respondCached(request, resource(resource, filter),
+                () -> launchService.getLaunchSlice(filter, after, sliceSize, includeTotal));
     }
 
     /**
-     * Récupère la liste paginée des lancements avec filtres optionnels
-     * GET /dashboard/launches?year=2023&success=true&page=0&size=10
+     * Récupère la liste paginée des lancements avec filtres combinables
+     * GET /dashboard/launches?year=2023&success=true&rocketId=...&page=0&size=10
+     *
+     * Filtres (tous optionnels, combinés par ET): year, from, to (ISO-8601),
+     * success, rocketId, launchPadId, upcoming, orbit, customer
      *
-     * @param year     Filtre par année (optionnel)
-     * @param success  Filtre par statut de succès (optionnel)
+     * @param filter   Filtres combinables
      * @param pageable Pagination (par défaut: page 0, size 10, tri par date DESC)
      */
     @GetMapping("/launches")
-    public ResponseEntity<Page<Launch>> getLaunches(
-            @RequestParam(required = false) Integer year,
-            @RequestParam(required = false) Boolean success,
+    public ResponseEntity<byte[]> getLaunches(
+            @ModelAttribute LaunchFilter filter,
             @PageableDefault(size = 10, sort = "dateUtc", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest request,
             Authentication authentication) {
 
-        logger.info("User '{}' fetching launches (year={}, success={}, page={})",
-                authentication.getName(), year, success, pageable.getPageNumber());
+        logger.info("User '{}' fetching launches (filter={}, page={})",
+                authentication.getName(), filter.cacheKey(), pageable.getPageNumber());
 
-        // Filtre par année
-        if (year != null) {
-            return ResponseEntity.ok(launchService.getLaunchesByYear(year, pageable));
-        }
+        String resource = resource("launches:" + CacheKeys.launchPage(filter.cacheKey(), pageable), filter);
 
-        // Filtre par statut
-        if (success != null) {
-            return ResponseEntity.ok(launchService.getLaunchesByStatus(success, pageable));
+        // Filtres simples: premières pages en cache
+        if (filter.isEmpty()) {
+            return datasetETags.respondCached(request, resource, () -> launchService.getAllLaunches(pageable));
+        }
+        if (filter.isYearOnly()) {
+            return datasetETags.respondCached(request, resource,
+                    () -> launchService.getLaunchesByYear(filter.year(), pageable));
         }
+        if (filter.isSuccessOnly()) {
+            return datasetETags.respondCached(request, resource,
+                    () -> launchService.getLaunchesByStatus(filter.success(), pageable));
+        }
+
+        // Combinaison de filtres: une seule requête SQL
+        return datasetETags.respondCached(request, resource, () -> launchService.findLaunches(filter, pageable));
+    }
 
-        // Tous les lancements
-        return ResponseEntity.ok(launchService.getAllLaunches(pageable));
+    /**
+     * Le filtre upcoming dépend de l'heure courante, pas seulement de la
+     * version du jeu de données: l'ETag change chaque minute
+     */
+    private static String resource(String resource, LaunchFilter filter) {
+        return filter.upcoming() == null
+                ? resource
+                : resource + "|t=" + Instant.now().truncatedTo(ChronoUnit.MINUTES);
     }
 
     /**
@@ -95,7 +260,7 @@ public class DashboardController {
      * GET /dashboard/launches/{id}
      */
     @GetMapping("/launches/{id}")
-    public ResponseEntity<Launch> getLaunchDetail(
+    public ResponseEntity<LaunchDetail> getLaunchDetail(
             @PathVariable String id,
             Authentication authentication) {
 
@@ -106,4 +271,262 @@ public class DashboardController {
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    /**
+     * Détail de plusieurs lancements en un appel (cartes de la liste de suivi)
+     * POST /dashboard/launches/batch {"ids": ["...", "..."]}
+     *
+     * Réponse dans l'ordre des IDs demandés; les IDs inconnus sont marqués
+     * (found = false) au lieu d'un 404.
+     */
+    @PostMapping("/launches/batch")
+    public LaunchBatch getLaunchDetails(
+            @RequestBody LaunchBatchRequest request,
+            Authentication authentication) {
+
+        List<String> ids = request.ids();
+        if (ids == null || ids.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ids must not be empty");
+        }
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BATCH_IDS + " ids per request");
+        }
+        if (ids.stream().anyMatch(id -> id == null || id.isBlank())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ids must not be blank");
+        }
+
+        logger.debug("User '{}' fetching {} launch details in batch", authentication.getName(), ids.size());
+        return launchService.getLaunchesByIds(ids);
+    }
+
+    /**
+     * Export complet des lancements, en flux
+     * GET /dashboard/export?format=ndjson|csv&year=2023&...
+     *
+     * Mêmes filtres que /dashboard/launches, tri par date DESC. Les lignes
+     * sont écrites au fil de la lecture (curseur JDBC): remplace le
+     * parcours page par page. Compressé en gzip si le client l'accepte.
+     *
+     * @param format ndjson (une vue JSON par ligne) ou csv
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLaunches(
+            @ModelAttribute LaunchFilter filter,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            Authentication authentication) {
+
+        LaunchExportService.Format exportFormat;
+        try {
+            exportFormat = LaunchExportService.Format.parse(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + format);
+        }
+        boolean gzip = ContentNegotiation.acceptsGzip(acceptEncoding);
+
+        logger.info("User '{}' exporting launches (filter={}, format={}, gzip={})",
+                authentication.getName(), filter.cacheKey(), exportFormat, gzip);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                launchExportService.export(filter, exportFormat, compressed);
+                compressed.finish();
+            } else {
+                launchExportService.export(filter, exportFormat, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.valueOf(exportFormat.mediaType()), StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"launches." + exportFormat.extension() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Recherche plein texte dans les lancements
+     * GET /dashboard/search?q=starlink&page=0&size=10
+     *
+     * Porte sur les noms et détails des lancements, fusées, sites, payloads
+     * et clients. Résultats triés par pertinence, avec extrait surligné.
+     *
+     * @param q Requête (syntaxe websearch: "phrase exacte", or, -exclu)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<LaunchSearchResult> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request,
+            Authentication authentication) {
+
+        String query = normalizeQuery(q);
+        if (query == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Query must not be blank");
+        }
+        if (page > MAX_SEARCH_PAGE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page must not exceed " + MAX_SEARCH_PAGE);
+        }
+        int pageNumber = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_SIZE));
+
+        logger.info("User '{}' searching launches for '{}' (page={})", authentication.getName(), query, pageNumber);
+
+        return datasetETags.respond(request, "search|" + query + "|" + pageNumber + "|" + pageSize,
+                () -> launchSearchService.search(query, pageNumber, pageSize));
+    }
+
+    /**
+     * Suggestions de la barre de recherche (index en mémoire, sans SQL)
+     * GET /dashboard/autocomplete?prefix=fal&limit=10
+     *
+     * Noms de lancements, fusées, sites et clients commençant par le préfixe
+     * (ou dont un mot commence par le préfixe), classés par popularité puis
+     * récence.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AutocompleteSuggestion>> autocomplete(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        if (prefix.length() > MAX_QUERY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Prefix must not exceed " + MAX_QUERY_LENGTH + " characters");
+        }
+        int max = Math.max(1, Math.min(limit, autocompleteService.getTopK()));
+        return ResponseEntity.ok(autocompleteService.suggest(prefix, max));
+    }
+
+    /**
+     * Liste des fusées, recherche approchée par nom si q est renseigné
+     * GET /dashboard/rockets?q=falcn&page=0&size=20
+     */
+    @GetMapping("/rockets")
+    public ResponseEntity<CatalogPage<RocketSummary>> getRockets(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest request,
+            Authentication authentication) {
+
+        String query = normalizeQuery(q);
+        int pageNumber = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(size, MAX_CATALOG_SIZE));
+
+        logger.debug("User '{}' fetching rockets (q='{}')", authentication.getName(), query);
+        return datasetETags.respond(request, "rockets|" + query + "|" + pageNumber + "|" + pageSize,
+                () -> catalogService.findRockets(query, pageNumber, pageSize));
+    }
+
+    /**
+     * Liste des sites de lancement, recherche approchée par nom si q est renseigné
+     * GET /dashboard/launchpads?q=canaveral&page=0&size=20
+     */
+    @GetMapping("/launchpads")
+    public ResponseEntity<CatalogPage<LaunchPadSummary>> getLaunchPads(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest request,
+            Authentication authentication) {
+
+        String query = normalizeQuery(q);
+        int pageNumber = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(size, MAX_CATALOG_SIZE));
+
+        logger.debug("User '{}' fetching launchpads (q='{}')", authentication.getName(), query);
+        return datasetETags.respond(request, "launchpads|" + query + "|" + pageNumber + "|" + pageSize,
+                () -> catalogService.findLaunchPads(query, pageNumber, pageSize));
+    }
+
+    /**
+     * Sites de lancement proches d'un point, du plus proche au plus lointain
+     * GET /dashboard/launchpads/near?lat=28.5&lon=-80.6&radiusKm=100
+     * GET /dashboard/launchpads/near?lat=28.5&lon=-80.6&k=3
+     *
+     * @param radiusKm Rayon de recherche (optionnel: sinon les k plus proches)
+     * @param k        Nombre maximum de sites
+     */
+    @GetMapping("/launchpads/near")
+    public ResponseEntity<List<NearbyLaunchPad>> getLaunchPadsNear(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(defaultValue = "5") int k,
+            WebRequest request,
+            Authentication authentication) {
+
+        if (lat < -90 || lat > 90 || lon < -180 || lon > 180) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid coordinates");
+        }
+        if (radiusKm != null && !(radiusKm > 0)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "radiusKm must be positive");
+        }
+        int limit = Math.max(1, Math.min(k, MAX_NEAREST));
+
+        logger.debug("User '{}' fetching launchpads near ({}, {}), radius={} km, k={}",
+                authentication.getName(), lat, lon, radiusKm, limit);
+
+        String resource = "launchpads/near|" + lat + "|" + lon + "|" + radiusKm + "|" + limit;
+        return datasetETags.respond(request, resource, () -> radiusKm != null
+                ? launchPadGeoService.findWithinRadius(lat, lon, radiusKm).stream().limit(limit).toList()
+                : launchPadGeoService.nearest(lat, lon, limit));
+    }
+
+    /**
+     * Liste des payloads, recherche approchée par nom si q est renseigné
+     * GET /dashboard/payloads?q=starlnk&page=0&size=20
+     */
+    @GetMapping("/payloads")
+    public ResponseEntity<CatalogPage<PayloadSummary>> getPayloads(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest request,
+            Authentication authentication) {
+
+        String query = normalizeQuery(q);
+        int pageNumber = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(size, MAX_CATALOG_SIZE));
+
+        logger.debug("User '{}' fetching payloads (q='{}')", authentication.getName(), query);
+        return datasetETags.respond(request, "payloads|" + query + "|" + pageNumber + "|" + pageSize,
+                () -> catalogService.findPayloads(query, pageNumber, pageSize));
+    }
+
+    /**
+     * Texte recherché sans espaces superflus, null si absent ou vide
+     */
+    private static String normalizeQuery(String q) {
+        if (q == null || q.isBlank()) {
+            return null;
+        }
+        String query = q.strip();
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Query must not exceed " + MAX_QUERY_LENGTH + " characters");
+        }
+        return query;
+    }
+
+    /**
+     * Récupère les changements depuis une version du jeu de données
+     * GET /dashboard/changes?since=42
+     *
+     * @param since Dernière version connue du client (0 = tout)
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<LaunchChangeFeed> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            Authentication authentication) {
+
+        logger.debug("User '{}' fetching changes since version {}", authentication.getName(), since);
+        return ResponseEntity.ok(changeFeedService.getChangesSince(since));
+    }
 }
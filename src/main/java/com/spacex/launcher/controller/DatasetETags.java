@@ -0,0 +1,156 @@
+package com.spacex.launcher.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import com.spacex.launcher.service.ChangeFeedService;
+import com.spacex.launcher.service.ChangeFeedService.PublishedVersion;
+
+/**
+ * Réponses conditionnelles (ETag / 304) des endpoints du tableau de bord
+ *
+ * Les données ne changent qu'à la synchronisation: l'ETag est dérivé de la
+ * version publiée du jeu de données, des paramètres de la requête et du
+ * format négocié, Last-Modified de sa date de publication. If-None-Match est
+ * vérifié avant tout appel au service.
+ *
+ * ETag faible pour les corps sérialisés à chaque requête (compressés ensuite
+ * par le conteneur), fort pour les corps servis déjà encodés (KPIs, stats,
+ * listes de lancements, bootstrap).
+ */
+@Component
+public class DatasetETags {
+
+    /** Réponse propre à l'utilisateur authentifié, à revalider à chaque usage */
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final ChangeFeedService changeFeedService;
+    private final ResponseBodyCache responseBodyCache;
+
+    public DatasetETags(ChangeFeedService changeFeedService, ResponseBodyCache responseBodyCache) {
+        this.changeFeedService = changeFeedService;
+        this.responseBodyCache = responseBodyCache;
+    }
+
+    /**
+     * Répond 304 si le client possède déjà la représentation courante,
+     * sinon calcule le corps
+     *
+     * @param request  Requête (If-None-Match / If-Modified-Since)
+     * @param resource Ressource et paramètres normalisés
+     * @param body     Calcul du corps, appelé uniquement pour un 200
+     */
+    public <T> ResponseEntity<T> respond(WebRequest request, String resource, Supplier<T> body) {
+        PublishedVersion version = changeFeedService.publishedVersion();
+
+        // Une représentation par format négocié (JSON, CBOR, Smile): ETag distinct
+        MediaType format = ContentNegotiation.negotiate(
+                request.getHeader(HttpHeaders.ACCEPT), ContentNegotiation.DASHBOARD_FORMATS);
+        // ETag faible: Tomcat (server.compression) ne compresse pas une réponse à ETag fort
+        String etag = "W/" + etag(version.version(), resource + "|" + format);
+        if (request.checkNotModified(etag, lastModified(version))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok().cacheControl(CACHE_CONTROL).body(body.get());
+    }
+
+    /**
+     * Comme respond(), pour les réponses les plus demandées: le corps est
+     * sérialisé et compressé une fois par version (ResponseBodyCache) puis
+     * servi tel quel, gzip compris si le client l'accepte
+     *
+     * @param body Calcul du corps, appelé seulement si la représentation
+     *             n'est pas encore en cache pour la version courante
+     */
+    public ResponseEntity<byte[]> respondCached(WebRequest request, String resource, Supplier<?> body) {
+        return respondCached(request, resource, false, body);
+    }
+
+    /**
+     * @param untilNextLaunch La représentation change aussi quand la date du
+     *                        prochain lancement passe (KPIs), sans nouvelle
+     *                        version: partie de l'ETag, sans appel au service
+     */
+    public ResponseEntity<byte[]> respondCached(WebRequest request, String resource, boolean untilNextLaunch,
+            Supplier<?> body) {
+        PublishedVersion version = changeFeedService.publishedVersion();
+        String representation = representation(version, resource, untilNextLaunch);
+
+        MediaType format = ContentNegotiation.negotiate(
+                request.getHeader(HttpHeaders.ACCEPT), ContentNegotiation.DASHBOARD_FORMATS);
+        boolean gzipAccepted = ContentNegotiation.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (request.checkNotModified(etag(version.version(), representation + "|" + format
+                + (gzipAccepted ? "|gzip" : "")), lastModified(version))) {
+            return notModified();
+        }
+
+        ResponseBodyCache.EncodedBody encoded = responseBodyCache.get(version.version(), representation, format, body);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .contentType(format)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzipAccepted && encoded.gzip() != null) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+        }
+        return response.body(encoded.identity());
+    }
+
+    /**
+     * Variante pour un corps déjà sérialisé (et éventuellement déjà
+     * compressé) pour une version du jeu de données
+     *
+     * @param untilNextLaunch Voir respondCached()
+     * @param contentType     Format du corps (ETag distinct par format)
+     * @param gzip            Le corps est compressé en gzip (ETag distinct par encodage)
+     * @param body            Octets de la version donnée, envoyés tels quels;
+     *                        appelé uniquement pour un 200
+     */
+    public ResponseEntity<byte[]> respondEncoded(WebRequest request, String resource, boolean untilNextLaunch,
+            MediaType contentType, boolean gzip, LongFunction<byte[]> body) {
+        PublishedVersion version = changeFeedService.publishedVersion();
+        String representation = representation(version, resource, untilNextLaunch)
+                + "|" + contentType + (gzip ? "|gzip" : "");
+        if (request.checkNotModified(etag(version.version(), representation), lastModified(version))) {
+            return notModified();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .contentType(contentType)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body.apply(version.version()));
+    }
+
+    private static String representation(PublishedVersion version, String resource, boolean untilNextLaunch) {
+        return untilNextLaunch ? resource + "|next=" + version.launchesPassed(Instant.now()) : resource;
+    }
+
+    private static long lastModified(PublishedVersion version) {
+        return version.publishedAt() != null ? version.publishedAt().toEpochMilli() : -1;
+    }
+
+    private static ResponseEntity<byte[]> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(CACHE_CONTROL)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+    }
+
+    private static String etag(long version, String resource) {
+        String digest = DigestUtils.md5DigestAsHex(resource.getBytes(StandardCharsets.UTF_8));
+        return "\"v" + version + "-" + digest.substring(0, 16) + "\"";
+    }
+}
@@ -0,0 +1,170 @@
+package com.spacex.launcher.controller;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import com.spacex.launcher.config.GraphQlConfig;
+import com.spacex.launcher.dto.CatalogPage;
+import com.spacex.launcher.dto.LaunchDetail;
+import com.spacex.launcher.dto.LaunchFilter;
+import com.spacex.launcher.dto.LaunchPadSummary;
+import com.spacex.launcher.dto.LaunchPage;
+import com.spacex.launcher.dto.LaunchStats;
+import com.spacex.launcher.dto.LaunchSummary;
+import com.spacex.launcher.dto.PayloadSummary;
+import com.spacex.launcher.dto.RocketSummary;
+import com.spacex.launcher.dto.YearlyStats;
+import com.spacex.launcher.service.CatalogService;
+import com.spacex.launcher.service.LaunchService;
+
+/**
+ * Endpoint GraphQL du tableau de bord (POST /dashboard/graphql)
+ *
+ * Un lancement est résolu à partir de sa vue compacte (LaunchSummary);
+ * fusée, site, payloads et texte de détail sont chargés par @BatchMapping:
+ * un DataLoader par requête regroupe les lancements de la réponse et
+ * chaque champ coûte une requête SQL au plus pour toute la page.
+ */
+@Controller
+public class LaunchGraphQlController {
+
+    private static final Logger logger = LoggerFactory.getLogger(LaunchGraphQlController.class);
+
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "dateUtc");
+
+    private final LaunchService launchService;
+    private final CatalogService catalogService;
+
+    public LaunchGraphQlController(LaunchService launchService, CatalogService catalogService) {
+        this.launchService = launchService;
+        this.catalogService = catalogService;
+    }
+
+    /**
+     * Mêmes chemins que GET /dashboard/launches: les filtres simples
+     * profitent des premières pages en cache
+     */
+    @QueryMapping
+    public LaunchPage launches(@Argument LaunchFilter filter, @Argument int page, @Argument int size) {
+        LaunchFilter launchFilter = filter != null ? filter : LaunchFilter.NONE;
+        Pageable pageable = PageRequest.of(Math.max(0, page), pageSize(size), DEFAULT_SORT);
+        logger.debug("GraphQL launches (filter={}, page={})", launchFilter.cacheKey(), pageable.getPageNumber());
+
+        if (launchFilter.isEmpty()) {
+            return launchService.getAllLaunches(pageable);
+        }
+        if (launchFilter.isYearOnly()) {
+            return launchService.getLaunchesByYear(launchFilter.year(), pageable);
+        }
+        if (launchFilter.isSuccessOnly()) {
+            return launchService.getLaunchesByStatus(launchFilter.success(), pageable);
+        }
+        return launchService.findLaunches(launchFilter, pageable);
+    }
+
+    @QueryMapping
+    public LaunchSummary launch(@Argument String id) {
+        LaunchDetail detail = launchService.getLaunchDetails(List.of(id)).get(id);
+        return detail != null ? detail.toSummary() : null;
+    }
+
+    @QueryMapping
+    public CatalogPage<RocketSummary> rockets(@Argument String query, @Argument int page, @Argument int size) {
+        return catalogService.findRockets(normalize(query), Math.max(0, page), pageSize(size));
+    }
+
+    @QueryMapping
+    public CatalogPage<LaunchPadSummary> launchPads(@Argument String query, @Argument int page, @Argument int size) {
+        return catalogService.findLaunchPads(normalize(query), Math.max(0, page), pageSize(size));
+    }
+
+    @QueryMapping
+    public LaunchStats stats() {
+        return launchService.getGlobalStats();
+    }
+
+    @QueryMapping
+    public List<YearlyStats> yearlyStats() {
+        return launchService.getYearlyStats();
+    }
+
+    // ===== Champs de Launch chargés par lots =====
+
+    @BatchMapping(typeName = "Launch")
+    public Map<LaunchSummary, RocketSummary> rocket(List<LaunchSummary> launches) {
+        Map<String, RocketSummary> rockets = catalogService.getRocketsByIds(ids(launches, LaunchSummary::rocketId));
+        return byLaunch(launches, launch -> lookup(rockets, launch.rocketId()));
+    }
+
+    @BatchMapping(typeName = "Launch")
+    public Map<LaunchSummary, LaunchPadSummary> launchPad(List<LaunchSummary> launches) {
+        Map<String, LaunchPadSummary> launchPads =
+                catalogService.getLaunchPadsByIds(ids(launches, LaunchSummary::launchPadId));
+        return byLaunch(launches, launch -> lookup(launchPads, launch.launchPadId()));
+    }
+
+    @BatchMapping(typeName = "Launch")
+    public Map<LaunchSummary, List<PayloadSummary>> payloads(List<LaunchSummary> launches) {
+        Map<String, List<PayloadSummary>> payloads =
+                launchService.getPayloadsByLaunchIds(ids(launches, LaunchSummary::id));
+        return byLaunch(launches, launch -> payloads.getOrDefault(launch.id(), List.of()));
+    }
+
+    @BatchMapping(typeName = "Launch")
+    public Map<LaunchSummary, String> details(List<LaunchSummary> launches) {
+        Map<String, LaunchDetail> details = launchService.getLaunchDetails(ids(launches, LaunchSummary::id));
+        return byLaunch(launches, launch -> {
+            LaunchDetail detail = details.get(launch.id());
+            return detail != null ? detail.details() : null;
+        });
+    }
+
+    private static Set<String> ids(List<LaunchSummary> launches, Function<LaunchSummary, String> id) {
+        return launches.stream()
+                .map(id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Valeur par lancement; une valeur null (pas de fusée, pas de détail)
+     * est résolue en null
+     */
+    private static <V> Map<LaunchSummary, V> byLaunch(List<LaunchSummary> launches, Function<LaunchSummary, V> value) {
+        Map<LaunchSummary, V> values = new HashMap<>();
+        for (LaunchSummary launch : launches) {
+            values.put(launch, value.apply(launch));
+        }
+        return values;
+    }
+
+    /**
+     * Lancement sans fusée ou sans site: clé null, valeur null
+     */
+    private static <V> V lookup(Map<String, V> values, String id) {
+        return id != null ? values.get(id) : null;
+    }
+
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, GraphQlConfig.MAX_PAGE_SIZE));
+    }
+
+    private static String normalize(String query) {
+        return query == null || query.isBlank() ? null : query.trim();
+    }
+}
@@ -0,0 +1,127 @@
+package com.spacex.launcher.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spacex.launcher.config.WebConfig;
+
+/**
+ * Corps de réponses déjà sérialisés et compressés, par version du jeu de
+ * données
+ *
+ * Pour une ressource et un format donnés, le corps ne dépend que de la
+ * version publiée: il est sérialisé (JSON, CBOR ou Smile) et compressé en
+ * gzip une seule fois, puis servi tel quel. Un hit ne passe ni par
+ * l'encodeur Jackson ni par le compresseur.
+ *
+ * Tout le cache est vidé quand la version publiée change (synchronisation,
+ * import, ou publication par une autre instance). Taille bornée en octets;
+ * les corps sous le seuil de compression ne sont pas compressés.
+ */
+@Component
+public class ResponseBodyCache {
+    private static final Logger logger = LoggerFactory.getLogger(ResponseBodyCache.class);
+
+    private final Map<MediaType, ObjectWriter> writers;
+    private final int compressionMinSize;
+    private final Cache<String, EncodedBody> bodies;
+
+    private volatile long version = -1;
+
+    /**
+     * @param identity Corps sérialisé
+     * @param gzip     Même corps compressé, null sous le seuil de compression
+     */
+    public record EncodedBody(byte[] identity, byte[] gzip) {
+
+        int weight() {
+            return identity.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+
+    public ResponseBodyCache(
+            ObjectMapper objectMapper,
+            MappingJackson2CborHttpMessageConverter cborConverter,
+            MappingJackson2SmileHttpMessageConverter smileConverter,
+            @Value("${server.compression.min-response-size:2KB}") DataSize compressionMinSize,
+            @Value("${spacex.http.response-cache.max-size:32MB}") DataSize maximumSize) {
+        this.writers = Map.of(
+                MediaType.APPLICATION_JSON, objectMapper.writer(),
+                MediaType.APPLICATION_CBOR, cborConverter.getObjectMapper().writer(),
+                WebConfig.APPLICATION_SMILE, smileConverter.getObjectMapper().writer());
+        this.compressionMinSize = (int) compressionMinSize.toBytes();
+        this.bodies = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((String key, EncodedBody body) -> key.length() + body.weight())
+                .build();
+    }
+
+    /**
+     * Corps d'une ressource pour une version, calculé au premier appel
+     * (les appels concurrents sur la même clé attendent ce calcul)
+     *
+     * @param version  Version publiée du jeu de données
+     * @param resource Ressource et paramètres normalisés
+     * @param format   Format négocié (JSON, CBOR ou Smile)
+     * @param body     Calcul de la valeur à sérialiser, appelé sur un miss
+     */
+    public EncodedBody get(long version, String resource, MediaType format, Supplier<?> body) {
+        // Les clés portent la version: une requête en retard d'une version ne vide pas le cache
+        if (version > this.version) {
+            onNewVersion(version);
+        }
+        ObjectWriter writer = writers.get(format);
+        if (writer == null) {
+            throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+        return bodies.get(version + "|" + resource + "|" + format, key -> encode(writer, body.get()));
+    }
+
+    private synchronized void onNewVersion(long newVersion) {
+        if (newVersion <= version) {
+            return;
+        }
+        long evicted = bodies.estimatedSize();
+        bodies.invalidateAll();
+        version = newVersion;
+        logger.debug("Response body cache reset for version {} ({} bodies evicted)", newVersion, evicted);
+    }
+
+    private EncodedBody encode(ObjectWriter writer, Object value) {
+        byte[] identity;
+        try {
+            identity = writer.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response body", e);
+        }
+        return new EncodedBody(identity, identity.length >= compressionMinSize ? gzip(identity) : null);
+    }
+
+    static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream compressed = new GZIPOutputStream(out)) {
+            compressed.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,213 @@
+package com.spacex.launcher.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * DataSource routant les transactions en lecture seule vers les réplicas
+ *
+ * - Transaction en écriture (ou hors transaction): primaire
+ * - Lectures dans onPrimary(): primaire, transactions readOnly comprises
+ * - Transaction readOnly: réplica suivant (tourniquet) parmi ceux dont le
+ * retard de réplication est sous le seuil; primaire si aucun ne l'est
+ *
+ * Le retard de chaque réplica est mesuré à intervalle régulier par une tâche
+ * de fond; un réplica injoignable est écarté jusqu'à la mesure suivante.
+ *
+ * Doit être enveloppé dans un LazyConnectionDataSourceProxy: le drapeau
+ * readOnly de la transaction n'est positionné qu'après son ouverture, la
+ * connexion réelle doit donc être obtenue au premier ordre SQL.
+ *
+ * Métriques: spacex.datasource.routing{target,reason} (décisions),
+ * spacex.datasource.replica.lag{pool} (secondes, NaN si injoignable).
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    public static final String PRIMARY = "primary";
+
+    /**
+     * Retard en secondes; 0 si le réplica a rejoué tout ce qu'il a reçu
+     * (un primaire inactif ne fait pas croître le retard)
+     */
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    /** Lectures du thread courant forcées sur le primaire (onPrimary) */
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private final List<Replica> replicas;
+    private final double maxLagSeconds;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Réplica et dernier retard mesuré
+     */
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile double lagSeconds = Double.NaN;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        double lagSeconds() {
+            return lagSeconds;
+        }
+    }
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            List<Replica> replicas,
+            Duration maxLag,
+            Duration checkInterval,
+            MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.meterRegistry = meterRegistry;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : this.replicas) {
+            targets.put(replica.name, replica.dataSource);
+            Gauge.builder("spacex.datasource.replica.lag", replica, Replica::lagSeconds)
+                    .description("Replication lag of the replica in seconds (NaN when unreachable)")
+                    .baseUnit("seconds")
+                    .tag("pool", replica.name)
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::measureLag, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Exécute work en servant toutes ses lectures par le primaire
+     *
+     * Pour les lectures qui doivent voir une écriture tout juste commitée
+     * (préchauffage après une synchronisation, journal des changements): un
+     * réplica, même sous le seuil de retard, peut ne pas l'avoir rejouée.
+     * Sans effet si le routage vers les réplicas n'est pas actif.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            }
+        }
+    }
+
+    public static void onPrimary(Runnable work) {
+        onPrimary(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return route(PRIMARY, "read-write");
+        }
+        if (PRIMARY_REQUIRED.get() != null) {
+            return route(PRIMARY, "primary-required");
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.lagSeconds <= maxLagSeconds) {
+                return route(replica.name, "read-only");
+            }
+        }
+        return route(PRIMARY, "replica-unavailable");
+    }
+
+    private String route(String target, String reason) {
+        meterRegistry.counter("spacex.datasource.routing", "target", target, "reason", reason).increment();
+        return target;
+    }
+
+    private void measureLag() {
+        for (Replica replica : replicas) {
+            double previous = replica.lagSeconds;
+            try (Connection connection = replica.dataSource.getConnection();
+                    Statement statement = connection.createStatement();
+                    ResultSet result = statement.executeQuery(LAG_QUERY)) {
+                result.next();
+                replica.lagSeconds = result.getDouble(1);
+            } catch (Exception e) {
+                replica.lagSeconds = Double.NaN;
+                logger.debug("Replica '{}' lag check failed: {}", replica.name, e.getMessage());
+            }
+
+            boolean wasUsable = previous <= maxLagSeconds;
+            boolean usable = replica.lagSeconds <= maxLagSeconds;
+            if (wasUsable && !usable) {
+                logger.warn("Replica '{}' excluded from read routing (lag: {} s)", replica.name, replica.lagSeconds);
+            } else if (!wasUsable && usable) {
+                logger.info("Replica '{}' available for read routing (lag: {} s)", replica.name, replica.lagSeconds);
+            }
+        }
+    }
+
+    /**
+     * Arrête la surveillance et ferme les pools des réplicas
+     * (le primaire est un bean Spring, fermé par le contexte)
+     */
+    @Override
+    public void destroy() throws Exception {
+        scheduler.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
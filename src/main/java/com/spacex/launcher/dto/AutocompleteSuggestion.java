@@ -0,0 +1,19 @@
+// ===== AutocompleteSuggestion (Response DTO) =====
+package com.spacex.launcher.dto;
+
+/**
+ * Suggestion de la barre de recherche
+ *
+ * @param text Texte suggéré
+ * @param type Nature de l'élément suggéré
+ * @param id   Identifiant de l'élément (null pour un client)
+ */
+public record AutocompleteSuggestion(String text, Type type, String id) {
+
+    public enum Type {
+        LAUNCH,
+        ROCKET,
+        LAUNCH_PAD,
+        CUSTOMER
+    }
+}
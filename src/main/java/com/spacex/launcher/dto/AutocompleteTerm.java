@@ -0,0 +1,15 @@
+// ===== AutocompleteTerm =====
+package com.spacex.launcher.dto;
+
+import java.time.Instant;
+
+/**
+ * Terme candidat de l'index d'autocomplétion (projection)
+ *
+ * @param id         Identifiant de l'élément (null pour un client)
+ * @param text       Texte suggéré
+ * @param popularity Nombre de lancements associés
+ * @param lastUsed   Date du lancement associé le plus récent
+ */
+public record AutocompleteTerm(String id, String text, long popularity, Instant lastUsed) {
+}
@@ -0,0 +1,27 @@
+// ===== CatalogPage (Response DTO) =====
+package com.spacex.launcher.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+
+/**
+ * Page d'une liste du catalogue (fusées, sites, payloads)
+ */
+public record CatalogPage<T>(
+        List<T> content,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages) {
+
+    public static <E, T> CatalogPage<T> of(Page<E> page, Function<E, T> mapper) {
+        return new CatalogPage<>(
+                page.getContent().stream().map(mapper).toList(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages());
+    }
+}
@@ -0,0 +1,19 @@
+// ===== DashboardBootstrap (Response DTO) =====
+package com.spacex.launcher.dto;
+
+import java.util.List;
+
+/**
+ * Réponse de GET /dashboard/bootstrap: données du premier affichage
+ *
+ * @param version     Version du jeu de données ayant servi au calcul
+ * @param kpis        Comme GET /dashboard/kpis
+ * @param yearlyStats Comme GET /dashboard/stats/yearly
+ * @param launches    Comme GET /dashboard/launches (page 0, tri par date DESC)
+ */
+public record DashboardBootstrap(
+        long version,
+        LaunchStats kpis,
+        List<YearlyStats> yearlyStats,
+        LaunchPage launches) {
+}
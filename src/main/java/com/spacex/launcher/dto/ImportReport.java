@@ -0,0 +1,32 @@
+// ===== ImportReport (Response DTO) =====
+package com.spacex.launcher.dto;
+
+import java.util.List;
+
+/**
+ * Bilan d'un import NDJSON (POST /admin/import)
+ *
+ * @param dataset    Table importée (launches ou payloads)
+ * @param records    Lignes valides chargées
+ * @param rejected   Lignes rejetées (JSON invalide, champ manquant ou trop long)
+ * @param duplicates Lignes valides ignorées: remplacées par une ligne
+ *                   ultérieure de même id
+ * @param inserted   Lignes insérées
+ * @param updated    Lignes modifiées
+ * @param unchanged  Lignes (ids distincts) identiques à la base
+ * @param changes    Lancements journalisés dans la version
+ * @param version    Version du jeu de données publiée
+ * @param errors     Premières erreurs ("line N: ...")
+ */
+public record ImportReport(
+        String dataset,
+        long records,
+        long rejected,
+        long duplicates,
+        long inserted,
+        long updated,
+        long unchanged,
+        long changes,
+        long version,
+        List<String> errors) {
+}
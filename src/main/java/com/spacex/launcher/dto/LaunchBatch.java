@@ -0,0 +1,23 @@
+// ===== LaunchBatch (Response DTO) =====
+package com.spacex.launcher.dto;
+
+import java.util.List;
+
+/**
+ * Réponse de POST /dashboard/launches/batch
+ *
+ * Une entrée par ID demandé, dans l'ordre de la requête (doublons compris);
+ * launch est null pour un ID inconnu, également listé dans missing.
+ */
+public record LaunchBatch(
+        List<Item> launches,
+        List<String> missing) {
+
+    /**
+     * @param id     ID demandé
+     * @param found  false si aucun lancement ne porte cet ID
+     * @param launch Détail du lancement (null si absent)
+     */
+    public record Item(String id, boolean found, LaunchDetail launch) {
+    }
+}
@@ -0,0 +1,12 @@
+// ===== LaunchBatchRequest =====
+package com.spacex.launcher.dto;
+
+import java.util.List;
+
+/**
+ * Corps de POST /dashboard/launches/batch
+ *
+ * @param ids IDs des lancements, dans l'ordre d'affichage
+ */
+public record LaunchBatchRequest(List<String> ids) {
+}
@@ -0,0 +1,18 @@
+// ===== LaunchChangeEntry =====
+package com.spacex.launcher.dto;
+
+import java.time.Instant;
+
+import com.spacex.launcher.model.ChangeType;
+
+/**
+ * Delta d'un lancement dans le flux de changements
+ * launch est null pour une suppression
+ */
+public record LaunchChangeEntry(
+        long version,
+        String launchId,
+        ChangeType type,
+        Instant changedAt,
+        LaunchSummary launch) {
+}
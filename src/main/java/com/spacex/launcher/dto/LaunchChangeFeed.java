@@ -0,0 +1,18 @@
+// ===== LaunchChangeFeed (Response DTO) =====
+package com.spacex.launcher.dto;
+
+import java.util.List;
+
+/**
+ * Réponse de GET /dashboard/changes
+ *
+ * resetRequired = true si le client est trop ancien (journal compacté) ou en
+ * avance sur le serveur: il doit alors tout recharger puis repartir de
+ * currentVersion.
+ */
+public record LaunchChangeFeed(
+        long since,
+        long currentVersion,
+        boolean resetRequired,
+        List<LaunchChangeEntry> changes) {
+}
@@ -0,0 +1,42 @@
+// ===== LaunchCursor =====
+package com.spacex.launcher.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position dans la liste des lancements triée par (dateUtc DESC, id DESC)
+ * Transmise au client sous forme opaque (base64url)
+ */
+public record LaunchCursor(Instant dateUtc, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static LaunchCursor after(LaunchSummary launch) {
+        return new LaunchCursor(launch.dateUtc(), launch.id());
+    }
+
+    public String encode() {
+        String raw = dateUtc + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException si le curseur n'a pas été émis par
+     *                                  l'API
+     */
+    public static LaunchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new LaunchCursor(Instant.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
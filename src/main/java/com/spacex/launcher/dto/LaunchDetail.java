@@ -0,0 +1,57 @@
+// ===== LaunchDetail (Response DTO) =====
+package com.spacex.launcher.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Détail d'un lancement (GET /dashboard/launches/{id})
+ * Lu par projection: une requête pour le lancement, une pour ses payloads
+ */
+public record LaunchDetail(
+        String id,
+        String name,
+        Instant dateUtc,
+        Boolean success,
+        String details,
+        String rocketId,
+        String rocketName,
+        String rocketType,
+        String launchPadId,
+        String launchPadName,
+        String launchPadLocality,
+        String launchPadRegion,
+        List<PayloadSummary> payloads) {
+
+    /**
+     * Constructeur de l'expression JPQL (payloads chargés séparément)
+     */
+    public LaunchDetail(
+            String id,
+            String name,
+            Instant dateUtc,
+            Boolean success,
+            String details,
+            String rocketId,
+            String rocketName,
+            String rocketType,
+            String launchPadId,
+            String launchPadName,
+            String launchPadLocality,
+            String launchPadRegion) {
+        this(id, name, dateUtc, success, details, rocketId, rocketName, rocketType,
+                launchPadId, launchPadName, launchPadLocality, launchPadRegion, List.of());
+    }
+
+    public LaunchDetail withPayloads(List<PayloadSummary> payloads) {
+        return new LaunchDetail(id, name, dateUtc, success, details, rocketId, rocketName, rocketType,
+                launchPadId, launchPadName, launchPadLocality, launchPadRegion, List.copyOf(payloads));
+    }
+
+    /**
+     * Vue compacte (liste, GraphQL)
+     */
+    public LaunchSummary toSummary() {
+        return new LaunchSummary(id, name, dateUtc, success, rocketId, rocketName, launchPadId, launchPadName);
+    }
+}
@@ -0,0 +1,118 @@
+// ===== LaunchFilter =====
+package com.spacex.launcher.dto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.StringJoiner;
+
+/**
+ * Filtres combinables de la liste des lancements (tous optionnels, combinés
+ * par ET)
+ *
+ * @param year        Année (fuseau des statistiques annuelles)
+ * @param from        Date minimale incluse
+ * @param to          Date maximale incluse
+ * @param success     Statut de succès
+ * @param rocketId    Fusée
+ * @param launchPadId Site de lancement
+ * @param upcoming    true: lancements à venir, false: lancements passés
+ * @param orbit       Au moins une charge utile sur cette orbite
+ * @param customer    Au moins une charge utile pour ce client
+ */
+public record LaunchFilter(
+        Integer year,
+        Instant from,
+        Instant to,
+        Boolean success,
+        String rocketId,
+        String launchPadId,
+        Boolean upcoming,
+        String orbit,
+        String customer) {
+
+    public static final LaunchFilter NONE = new LaunchFilter(null, null, null, null, null, null, null, null, null);
+
+    public static LaunchFilter ofYear(int year) {
+        return new LaunchFilter(year, null, null, null, null, null, null, null, null);
+    }
+
+    public static LaunchFilter ofSuccess(Boolean success) {
+        return new LaunchFilter(null, null, null, success, null, null, null, null, null);
+    }
+
+    public boolean isEmpty() {
+        return equals(NONE);
+    }
+
+    public boolean isYearOnly() {
+        return year != null && equals(ofYear(year));
+    }
+
+    public boolean isSuccessOnly() {
+        return success != null && equals(ofSuccess(success));
+    }
+
+    /**
+     * Borne basse effective (la plus restrictive entre année et from)
+     */
+    public Instant effectiveFrom() {
+        Instant yearStart = year != null ? startOfYear(year) : null;
+        return latest(yearStart, from);
+    }
+
+    /**
+     * Borne haute effective (la plus restrictive entre année et to)
+     */
+    public Instant effectiveTo() {
+        Instant yearEnd = year != null ? endOfYear(year) : null;
+        return earliest(yearEnd, to);
+    }
+
+    /**
+     * Représentation canonique (clés de cache, ETags)
+     */
+    public String cacheKey() {
+        StringJoiner key = new StringJoiner("&");
+        append(key, "year", year);
+        append(key, "from", from);
+        append(key, "to", to);
+        append(key, "success", success);
+        append(key, "rocket", rocketId);
+        append(key, "pad", launchPadId);
+        append(key, "upcoming", upcoming);
+        append(key, "orbit", orbit);
+        append(key, "customer", customer);
+        return key.length() == 0 ? "all" : key.toString();
+    }
+
+    public static Instant startOfYear(int year) {
+        return LocalDateTime.of(year, 1, 1, 0, 0)
+                .atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    public static Instant endOfYear(int year) {
+        return LocalDateTime.of(year, 12, 31, 23, 59, 59)
+                .atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static void append(StringJoiner key, String name, Object value) {
+        if (value != null) {
+            key.add(name + "=" + value);
+        }
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+
+    private static Instant earliest(Instant a, Instant b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,14 @@
+// ===== LaunchPadSummary (Response DTO) =====
+package com.spacex.launcher.dto;
+
+/**
+ * Site de lancement (liste du catalogue)
+ */
+public record LaunchPadSummary(
+        String id,
+        String name,
+        String locality,
+        String region,
+        Double latitude,
+        Double longitude) {
+}
@@ -0,0 +1,15 @@
+// ===== LaunchPage (Response DTO) =====
+package com.spacex.launcher.dto;
+
+import java.util.List;
+
+/**
+ * Page de lancements (enveloppe stable, mise en cache telle quelle)
+ */
+public record LaunchPage(
+        List<LaunchSummary> content,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages) {
+}
@@ -0,0 +1,15 @@
+// ===== LaunchPayloadRow =====
+package com.spacex.launcher.dto;
+
+/**
+ * Charge utile avec l'identifiant de son lancement (export en table)
+ */
+public record LaunchPayloadRow(
+        String launchId,
+        String id,
+        String name,
+        String type,
+        Double massKg,
+        String orbit,
+        String customer) {
+}
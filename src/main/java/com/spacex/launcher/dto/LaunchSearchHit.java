@@ -0,0 +1,22 @@
+// ===== LaunchSearchHit (Response DTO) =====
+package com.spacex.launcher.dto;
+
+import java.time.Instant;
+
+/**
+ * Résultat de recherche plein texte: vue compacte du lancement, score de
+ * pertinence et extrait surligné (termes trouvés entre balises mark)
+ *
+ * headline est du HTML: texte source échappé, seules les balises mark y
+ * sont du balisage. Les autres champs sont du texte brut.
+ */
+public record LaunchSearchHit(
+        String id,
+        String name,
+        Instant dateUtc,
+        Boolean success,
+        String rocketName,
+        String launchPadName,
+        double rank,
+        String headline) {
+}
@@ -0,0 +1,16 @@
+// ===== LaunchSearchResult (Response DTO) =====
+package com.spacex.launcher.dto;
+
+import java.util.List;
+
+/**
+ * Page de résultats de recherche, triés par pertinence décroissante
+ */
+public record LaunchSearchResult(
+        String query,
+        List<LaunchSearchHit> content,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages) {
+}
@@ -0,0 +1,17 @@
+// ===== LaunchSlice (Response DTO) =====
+package com.spacex.launcher.dto;
+
+import java.util.List;
+
+/**
+ * Tranche de lancements en pagination par curseur
+ *
+ * nextCursor est null sur la dernière tranche; totalElements n'est
+ * renseigné que sur demande (includeTotal=true).
+ */
+public record LaunchSlice(
+        List<LaunchSummary> content,
+        int size,
+        String nextCursor,
+        Long totalElements) {
+}
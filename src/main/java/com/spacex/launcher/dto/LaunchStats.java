@@ -1,17 +1,23 @@
 // ===== LaunchStats (Response DTO) =====
 package com.spacex.launcher.dto;
 
-import com.spacex.launcher.model.Launch;
+import java.time.Instant;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+/**
+ * KPIs globaux (projection immuable, mise en cache telle quelle)
+ *
+ * @param nextLaunch Prochain lancement (null si aucun lancement à venir)
+ */
+public record LaunchStats(
+        long totalLaunches,
+        double successRate,
+        LaunchSummary nextLaunch) {
 
-@Data
-@AllArgsConstructor
-@NoArgsConstructor
-public class LaunchStats {
-    private long totalLaunches;
-    private double successRate;
-    private Launch nextLaunch;
+    /**
+     * La date du prochain lancement est passée: KPIs à recalculer, même
+     * sans nouvelle version du jeu de données
+     */
+    public boolean isNextLaunchPast(Instant now) {
+        return nextLaunch != null && nextLaunch.dateUtc() != null && !nextLaunch.dateUtc().isAfter(now);
+    }
 }
@@ -0,0 +1,18 @@
+// ===== LaunchSummary =====
+package com.spacex.launcher.dto;
+
+import java.time.Instant;
+
+/**
+ * Vue compacte d'un lancement (sans payloads)
+ */
+public record LaunchSummary(
+        String id,
+        String name,
+        Instant dateUtc,
+        Boolean success,
+        String rocketId,
+        String rocketName,
+        String launchPadId,
+        String launchPadName) {
+}
@@ -0,0 +1,15 @@
+// ===== NearbyLaunchPad (Response DTO) =====
+package com.spacex.launcher.dto;
+
+/**
+ * Site de lancement et sa distance au point de recherche
+ */
+public record NearbyLaunchPad(
+        String id,
+        String name,
+        String locality,
+        String region,
+        double latitude,
+        double longitude,
+        double distanceKm) {
+}
@@ -0,0 +1,14 @@
+// ===== PayloadSummary =====
+package com.spacex.launcher.dto;
+
+/**
+ * Charge utile (détail d'un lancement, liste du catalogue)
+ */
+public record PayloadSummary(
+        String id,
+        String name,
+        String type,
+        Double massKg,
+        String orbit,
+        String customer) {
+}
@@ -0,0 +1,14 @@
+// ===== RocketSummary (Response DTO) =====
+package com.spacex.launcher.dto;
+
+/**
+ * Fusée (liste du catalogue)
+ */
+public record RocketSummary(
+        String id,
+        String name,
+        String type,
+        boolean active,
+        String country,
+        String company) {
+}
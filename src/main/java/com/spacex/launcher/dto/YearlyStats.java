@@ -1,20 +1,11 @@
 // ===== YearlyStats =====
 package com.spacex.launcher.dto;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@AllArgsConstructor
-@NoArgsConstructor
-public class YearlyStats {
-    private Integer year;
-    private long totalLaunches;
-    private double successRate;
-
-    public YearlyStats(long totalLaunches, double successRate) {
-        this.totalLaunches = totalLaunches;
-        this.successRate = successRate;
-    }
+/**
+ * Statistiques d'une année (projection immuable, mise en cache telle quelle)
+ */
+public record YearlyStats(
+        Integer year,
+        long totalLaunches,
+        double successRate) {
 }
@@ -1,6 +1,8 @@
 // ===== PayloadDto =====
 package com.spacex.launcher.dto.spacex;
 
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import lombok.Data;
@@ -17,4 +19,14 @@ public class PayloadDto {
     private String orbit;
 
     private String customer;
+
+    /**
+     * API v4 (/v4/payloads): liste des clients, le premier est retenu
+     */
+    @JsonProperty("customers")
+    public void setCustomers(List<String> customers) {
+        if (customer == null && customers != null && !customers.isEmpty()) {
+            customer = customers.get(0);
+        }
+    }
 }
@@ -0,0 +1,15 @@
+package com.spacex.launcher.event;
+
+import java.util.Set;
+
+/**
+ * Publié (de façon synchrone) quand une synchronisation a modifié les
+ * lancements, avant que la nouvelle version du jeu de données ne soit
+ * publiée aux clients
+ *
+ * @param version     Version en cours de publication
+ * @param changeCount Nombre de lancements insérés, modifiés ou supprimés
+ * @param touchedTags Tags de cache touchés (voir CacheTags)
+ */
+public record LaunchDataChangedEvent(long version, long changeCount, Set<String> touchedTags) {
+}
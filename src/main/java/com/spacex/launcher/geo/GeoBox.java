@@ -0,0 +1,14 @@
+package com.spacex.launcher.geo;
+
+/**
+ * Rectangle géographique (degrés), sans traversée de l'antiméridien
+ */
+public record GeoBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+
+    public static final GeoBox WORLD = new GeoBox(-90, 90, -180, 180);
+
+    public boolean contains(double latitude, double longitude) {
+        return latitude >= minLatitude && latitude <= maxLatitude
+                && longitude >= minLongitude && longitude <= maxLongitude;
+    }
+}
@@ -0,0 +1,63 @@
+package com.spacex.launcher.geo;
+
+import java.util.List;
+
+/**
+ * Distances sur la sphère terrestre
+ */
+public final class GeoDistance {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    /** Demi-circonférence: aucune distance ne la dépasse */
+    public static final double MAX_DISTANCE_KM = Math.PI * EARTH_RADIUS_KM;
+
+    private GeoDistance() {
+    }
+
+    /**
+     * Distance orthodromique (formule de Haversine)
+     * L'argument de asin est borné: pas de NaN pour des points confondus ou
+     * antipodaux (erreurs d'arrondi)
+     */
+    public static double haversineKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLat = Math.toRadians(latitude2 - latitude1);
+        double dLon = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * Rectangles englobant le cercle de rayon donné
+     *
+     * Le rectangle est coupé en deux s'il traverse l'antiméridien; près d'un
+     * pôle il couvre toutes les longitudes.
+     */
+    public static List<GeoBox> boundingBoxes(double latitude, double longitude, double radiusKm) {
+        if (radiusKm >= MAX_DISTANCE_KM) {
+            return List.of(GeoBox.WORLD);
+        }
+
+        double dLat = Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+        double minLat = latitude - dLat;
+        double maxLat = latitude + dLat;
+        if (minLat <= -90 || maxLat >= 90) {
+            return List.of(new GeoBox(Math.max(minLat, -90), Math.min(maxLat, 90), -180, 180));
+        }
+
+        // Écart de longitude maximal atteint à la latitude de tangence
+        double dLon = Math.toDegrees(Math.asin(Math.min(1.0,
+                Math.sin(radiusKm / EARTH_RADIUS_KM) / Math.cos(Math.toRadians(latitude)))));
+        double minLon = longitude - dLon;
+        double maxLon = longitude + dLon;
+        if (minLon < -180) {
+            return List.of(new GeoBox(minLat, maxLat, minLon + 360, 180), new GeoBox(minLat, maxLat, -180, maxLon));
+        }
+        if (maxLon > 180) {
+            return List.of(new GeoBox(minLat, maxLat, minLon, 180), new GeoBox(minLat, maxLat, -180, maxLon - 360));
+        }
+        return List.of(new GeoBox(minLat, maxLat, minLon, maxLon));
+    }
+}
@@ -0,0 +1,125 @@
+package com.spacex.launcher.geo;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Geohash: découpage hiérarchique de la surface terrestre en cellules
+ *
+ * Deux points proches partagent en général un préfixe: une cellule de
+ * précision p correspond à l'intervalle [préfixe, préfixe suivant[ de la
+ * colonne geohash, servi par un index B-tree ordinaire.
+ */
+public final class Geohash {
+
+    private static final String ALPHABET = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    /** Précision stockée (~5 m) */
+    public static final int STORED_PRECISION = 9;
+
+    private Geohash() {
+    }
+
+    /**
+     * Geohash d'un point
+     *
+     * @param precision Nombre de caractères (1 à 12)
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90;
+        double maxLat = 90;
+        double minLon = -180;
+        double maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int value = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    value = (value << 1) | 1;
+                    minLon = mid;
+                } else {
+                    value <<= 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    value = (value << 1) | 1;
+                    minLat = mid;
+                } else {
+                    value <<= 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(ALPHABET.charAt(value));
+                bit = 0;
+                value = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Cellules couvrant un rectangle, à la précision la plus fine qui reste
+     * sous maxCells cellules
+     */
+    public static Set<String> coveringCells(GeoBox box, int maxCells) {
+        int precision = 1;
+        while (precision < STORED_PRECISION && cellCount(box, precision + 1) <= maxCells) {
+            precision++;
+        }
+
+        // Pas de parcours <= taille d'une cellule: toute cellule intersectée est visitée
+        double latStep = cellHeight(precision);
+        double lonStep = cellWidth(precision);
+        Set<String> cells = new TreeSet<>();
+        for (double lat = box.minLatitude(); ; lat = Math.min(lat + latStep, box.maxLatitude())) {
+            for (double lon = box.minLongitude(); ; lon = Math.min(lon + lonStep, box.maxLongitude())) {
+                cells.add(encode(lat, lon, precision));
+                if (lon >= box.maxLongitude()) {
+                    break;
+                }
+            }
+            if (lat >= box.maxLatitude()) {
+                break;
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Borne supérieure exclue des geohash commençant par le préfixe
+     *
+     * @return null si le préfixe n'est composé que de "z" (pas de borne)
+     */
+    public static String upperBound(String prefix) {
+        for (int i = prefix.length() - 1; i >= 0; i--) {
+            int index = ALPHABET.indexOf(prefix.charAt(i));
+            if (index < ALPHABET.length() - 1) {
+                return prefix.substring(0, i) + ALPHABET.charAt(index + 1);
+            }
+        }
+        return null;
+    }
+
+    private static long cellCount(GeoBox box, int precision) {
+        long rows = (long) Math.ceil((box.maxLatitude() - box.minLatitude()) / cellHeight(precision)) + 1;
+        long columns = (long) Math.ceil((box.maxLongitude() - box.minLongitude()) / cellWidth(precision)) + 1;
+        return rows * columns;
+    }
+
+    private static double cellWidth(int precision) {
+        return 360.0 / Math.pow(2, Math.ceil(5 * precision / 2.0));
+    }
+
+    private static double cellHeight(int precision) {
+        return 180.0 / Math.pow(2, Math.floor(5 * precision / 2.0));
+    }
+}
@@ -2,10 +2,14 @@ package com.spacex.launcher.mapper;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
+import com.spacex.launcher.dto.LaunchPage;
+import com.spacex.launcher.dto.LaunchSummary;
 import com.spacex.launcher.dto.spacex.LaunchDto;
 import com.spacex.launcher.dto.spacex.LaunchPadDto;
 import com.spacex.launcher.dto.spacex.PayloadDto;
@@ -24,15 +28,17 @@ public class LaunchMapper {
 
     /**
      * Convertit un LaunchDto en entité Launch
+     *
+     * @param payloadOf Payload complet d'un ID (le lancement ne porte que les IDs)
      */
-    public Launch toEntity(LaunchDto dto, Rocket rocket, LaunchPad launchPad) {
+    public Launch toEntity(LaunchDto dto, Rocket rocket, LaunchPad launchPad, Function<String, Payload> payloadOf) {
         if (dto == null) {
             return null;
         }
 
         List<Payload> payloads = dto.getPayloads() != null
                 ? dto.getPayloads().stream()
-                        .map(id -> Payload.builder().id(id).build())
+                        .map(payloadOf)
                         .collect(Collectors.toList())
                 : Collections.emptyList();
 
@@ -98,6 +104,19 @@ public class LaunchMapper {
                 .type(dto.getType())
                 .massKg(dto.getMassKg())
                 .orbit(dto.getOrbit())
+                .customer(dto.getCustomer())
                 .build();
     }
+
+    /**
+     * Convertit une page de projections en enveloppe stable
+     */
+    public LaunchPage toPage(Page<LaunchSummary> page) {
+        return new LaunchPage(
+                List.copyOf(page.getContent()),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages());
+    }
 }
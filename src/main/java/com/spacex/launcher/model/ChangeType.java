@@ -0,0 +1,10 @@
+package com.spacex.launcher.model;
+
+/**
+ * Nature d'une modification enregistrée dans le journal des changements
+ */
+public enum ChangeType {
+    INSERT,
+    UPDATE,
+    DELETE
+}
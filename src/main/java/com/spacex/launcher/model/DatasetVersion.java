@@ -0,0 +1,42 @@
+package com.spacex.launcher.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Version du jeu de données
+ *
+ * Chaque synchronisation ouvre une nouvelle version (identifiant croissant).
+ * Une version n'est visible des clients qu'une fois publiée.
+ */
+@Entity
+@Table(name = "dataset_versions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DatasetVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long version;
+
+    private Instant createdAt;
+    private Instant publishedAt;
+    private long changeCount;
+
+    /**
+     * Version jusqu'à laquelle les suppressions ont été purgées du journal lors
+     * de la publication de cette version (null si aucune purge)
+     */
+    private Long compactedThrough;
+}
@@ -11,7 +11,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "launches")
+@Table(name = "launches", indexes = {
+        // Tri et pagination par curseur (dateUtc DESC, id DESC)
+        @Index(name = "idx_launches_date_id", columnList = "date_utc, id"),
+        @Index(name = "idx_launches_success_date_id", columnList = "success, date_utc, id"),
+        // Filtres combinables: égalité puis plage/tri sur la date
+        @Index(name = "idx_launches_rocket_date_id", columnList = "rocket_id, date_utc, id"),
+        @Index(name = "idx_launches_pad_date_id", columnList = "launch_pad_id, date_utc, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,50 @@
+package com.spacex.launcher.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entrée du journal des changements (append-only)
+ *
+ * Une ligne par insertion, mise à jour ou suppression d'un lancement
+ */
+@Entity
+@Table(name = "launch_changes", indexes = {
+        @Index(name = "idx_launch_changes_version", columnList = "version"),
+        @Index(name = "idx_launch_changes_launch_id", columnList = "launch_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LaunchChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "launch_id", nullable = false)
+    private String launchId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private ChangeType changeType;
+
+    private Instant changedAt;
+}
@@ -1,15 +1,34 @@
 package com.spacex.launcher.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.spacex.launcher.geo.Geohash;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Site de lancement, en cache de second niveau (région "launch-pads")
+ * NONSTRICT_READ_WRITE: le rattrapage du geohash met à jour des lignes existantes
+ */
 @Entity
-@Table(name = "launch_pads")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "launch-pads")
+@Table(name = "launch_pads", indexes = {
+        // Recherche géographique: intervalles de cellules geohash
+        @Index(name = "idx_launch_pads_geohash", columnList = "geohash")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,4 +41,16 @@ public class LaunchPad {
     private String region;
     private Double latitude;
     private Double longitude;
+
+    /** Cellule geohash des coordonnées, calculée à l'enregistrement */
+    @Column(length = 12)
+    private String geohash;
+
+    @PrePersist
+    @PreUpdate
+    public void refreshGeohash() {
+        geohash = latitude != null && longitude != null
+                ? Geohash.encode(latitude, longitude, Geohash.STORED_PRECISION)
+                : null;
+    }
 }
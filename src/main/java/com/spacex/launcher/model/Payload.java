@@ -2,6 +2,7 @@ package com.spacex.launcher.model;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,7 +10,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "payloads")
+@Table(name = "payloads", indexes = {
+        // Filtres orbite / client des lancements (EXISTS ... WHERE launch_id = ?)
+        @Index(name = "idx_payloads_orbit_launch", columnList = "orbit, launch_id"),
+        @Index(name = "idx_payloads_customer_launch", columnList = "customer, launch_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
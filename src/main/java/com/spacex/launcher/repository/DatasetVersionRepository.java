@@ -0,0 +1,32 @@
+package com.spacex.launcher.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.spacex.launcher.model.DatasetVersion;
+
+/**
+ * Repository pour l'entité DatasetVersion
+ */
+@Repository
+public interface DatasetVersionRepository extends JpaRepository<DatasetVersion, Long> {
+
+    /**
+     * Trouve la dernière version publiée
+     *
+     * @return Optional contenant la version courante du jeu de données
+     */
+    Optional<DatasetVersion> findTopByPublishedAtIsNotNullOrderByVersionDesc();
+
+    /**
+     * Plus haute version dont les suppressions ont été purgées
+     * Un client plus ancien que cette version doit tout recharger
+     *
+     * @return Version plancher du journal (null si jamais compacté)
+     */
+    @Query("SELECT MAX(v.compactedThrough) FROM DatasetVersion v")
+    Long findCompactionFloor();
+}
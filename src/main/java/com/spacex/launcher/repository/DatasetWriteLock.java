@@ -0,0 +1,106 @@
+package com.spacex.launcher.repository;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Verrou des écritures du jeu de données: synchronisation et import NDJSON
+ * (PostgreSQL uniquement)
+ *
+ * Verrou consultatif de session, pris sur une connexion dédiée: il couvre
+ * toute l'écriture, de openVersion() à publish(), à travers ses transactions
+ * successives (une par lancement pour la synchronisation). Deux écritures,
+ * sur la même instance ou non, ne s'entrelacent donc pas: une version n'est
+ * jamais publiée pendant qu'une version plus ancienne est encore ouverte.
+ *
+ * Le verrou est relâché à la fermeture du bail; si l'instance meurt,
+ * PostgreSQL le relâche avec la session.
+ */
+@Component
+public class DatasetWriteLock {
+    private static final Logger logger = LoggerFactory.getLogger(DatasetWriteLock.class);
+
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_lock(hashtext('spacex-launch-import'))";
+    private static final String LOCK = "SELECT pg_advisory_lock(hashtext('spacex-launch-import'))";
+    private static final String UNLOCK = "SELECT pg_advisory_unlock(hashtext('spacex-launch-import'))";
+
+    private final DataSource dataSource;
+
+    public DatasetWriteLock(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Bail sur le verrou, à fermer une fois la version publiée
+     */
+    public static final class Lease implements AutoCloseable {
+        private final Connection connection;
+
+        private Lease(Connection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Relâche le verrou et rend la connexion au pool
+         * Si le verrou ne peut être relâché, la connexion est abandonnée
+         * (jamais rendue au pool verrou pris)
+         */
+        @Override
+        public void close() {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(UNLOCK);
+                connection.close();
+            } catch (SQLException e) {
+                logger.warn("Failed to release dataset write lock, dropping connection: {}", e.getMessage());
+                try {
+                    connection.abort(Runnable::run);
+                } catch (SQLException abortFailure) {
+                    logger.debug("Connection abort failed: {}", abortFailure.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Prend le verrou, en attendant la fin de l'écriture en cours s'il y en a une
+     *
+     * @throws DataAccessResourceFailureException si le verrou ne peut être pris
+     */
+    public Lease acquire() {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            try (Statement statement = connection.createStatement()) {
+                if (!tryLock(statement)) {
+                    logger.info("Dataset write in progress, waiting for the lock");
+                    statement.execute(LOCK);
+                }
+            }
+            return new Lease(connection);
+        } catch (SQLException e) {
+            if (connection != null) {
+                try {
+                    connection.close();
+                } catch (SQLException closeFailure) {
+                    e.addSuppressed(closeFailure);
+                }
+            }
+            throw new DataAccessResourceFailureException("Failed to acquire dataset write lock", e);
+        }
+    }
+
+    private static boolean tryLock(Statement statement) throws SQLException {
+        try (ResultSet result = statement.executeQuery(TRY_LOCK)) {
+            return result.next() && result.getBoolean(1);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.spacex.launcher.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.spacex.launcher.model.ChangeType;
+import com.spacex.launcher.model.LaunchChange;
+
+/**
+ * Repository pour le journal des changements de lancements
+ *
+ * OPTIMISATIONS APPLIQUÉES:
+ * - Lecture "compactée": uniquement le dernier changement par lancement
+ * - Suppressions en masse (JPQL DELETE) pour la compaction
+ */
+@Repository
+public interface LaunchChangeRepository extends JpaRepository<LaunchChange, Long> {
+
+    /**
+     * Dernier changement de chaque lancement modifié dans l'intervalle
+     * ]since, upTo]
+     *
+     * @param since Version déjà connue du client (exclue)
+     * @param upTo  Version publiée courante (incluse)
+     * @return Changements triés par version croissante
+     */
+    @Query("""
+            SELECT c FROM LaunchChange c
+            WHERE c.version > :since AND c.version <= :upTo
+            AND c.id = (
+                SELECT MAX(c2.id) FROM LaunchChange c2
+                WHERE c2.launchId = c.launchId AND c2.version <= :upTo
+            )
+            ORDER BY c.version ASC, c.id ASC
+            """)
+    List<LaunchChange> findLatestChangesBetween(
+            @Param("since") long since,
+            @Param("upTo") long upTo);
+
+    /**
+     * Supprime les entrées remplacées par un changement plus récent du même
+     * lancement. Ne modifie jamais le résultat de findLatestChangesBetween.
+     *
+     * @param upTo Version maximale concernée
+     * @return Nombre d'entrées supprimées
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM LaunchChange c
+            WHERE c.version <= :upTo
+            AND EXISTS (
+                SELECT 1 FROM LaunchChange n
+                WHERE n.launchId = c.launchId AND n.id > c.id AND n.version <= :upTo
+            )
+            """)
+    int deleteSupersededChanges(@Param("upTo") long upTo);
+
+    /**
+     * Purge les entrées d'un type donné jusqu'à une version
+     *
+     * @param changeType Type de changement (DELETE pour les tombstones)
+     * @param upTo       Version maximale purgée
+     * @return Nombre d'entrées supprimées
+     */
+    @Modifying
+    @Query("DELETE FROM LaunchChange c WHERE c.changeType = :changeType AND c.version <= :upTo")
+    int deleteByTypeUpTo(
+            @Param("changeType") ChangeType changeType,
+            @Param("upTo") long upTo);
+}
@@ -0,0 +1,434 @@
+package com.spacex.launcher.repository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Chargement en masse des imports NDJSON (PostgreSQL uniquement)
+ *
+ * Les lignes validées sont envoyées par COPY ... FROM STDIN (CSV) dans des
+ * tables temporaires supprimées au commit, puis fusionnées par quelques
+ * ordres ensemblistes (INSERT ... ON CONFLICT, UPDATE ... FROM): le coût ne
+ * dépend pas du nombre d'allers-retours, contrairement à JPA.
+ *
+ * Seuls les lancements réellement modifiés sont réécrits; ils sont relevés
+ * dans import_changes, qui alimente le journal des changements. Leur vecteur
+ * de recherche est remis à NULL (recalculé par LaunchSearchService).
+ *
+ * Appelé sous DatasetWriteLock (LaunchImportService): les imports et les
+ * synchronisations sont sérialisés.
+ */
+@Repository
+@Transactional(propagation = Propagation.MANDATORY)
+public class LaunchImportRepository {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String CREATE_CHANGES = """
+            CREATE TEMP TABLE import_changes (
+                launch_id   VARCHAR(255) PRIMARY KEY,
+                change_type VARCHAR(8) NOT NULL
+            ) ON COMMIT DROP
+            """;
+
+    // ===== Lancements =====
+
+    private static final String CREATE_LAUNCHES = """
+            CREATE TEMP TABLE import_launches (
+                line          BIGINT NOT NULL,
+                id            VARCHAR(255) NOT NULL,
+                name          VARCHAR(255),
+                date_utc      TIMESTAMP(6) WITH TIME ZONE,
+                success       BOOLEAN,
+                details       TEXT,
+                rocket_id     VARCHAR(255),
+                launch_pad_id VARCHAR(255),
+                payload_ids   VARCHAR(255)[] NOT NULL
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_LAUNCHES = """
+            COPY import_launches (line, id, name, date_utc, success, details, rocket_id, launch_pad_id, payload_ids)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    /** Même id plusieurs fois: la dernière ligne l'emporte */
+    private static final String DEDUPLICATE_LAUNCHES =
+            "DELETE FROM import_launches a USING import_launches b WHERE a.id = b.id AND a.line < b.line";
+
+    /** Un payload cité par plusieurs lancements reste au dernier cité */
+    private static final String CREATE_LAUNCH_PAYLOADS = """
+            CREATE TEMP TABLE import_launch_payloads ON COMMIT DROP AS
+            SELECT DISTINCT ON (p.payload_id) s.id AS launch_id, p.payload_id
+            FROM import_launches s, unnest(s.payload_ids) AS p(payload_id)
+            ORDER BY p.payload_id, s.line DESC
+            """;
+
+    private static final String[] INDEX_LAUNCHES = {
+            "ALTER TABLE import_launches ADD PRIMARY KEY (id)",
+            "CREATE INDEX ON import_launch_payloads (launch_id)",
+            // Pas d'autovacuum sur les tables temporaires: statistiques pour le planificateur
+            "ANALYZE import_launches",
+            "ANALYZE import_launch_payloads"
+    };
+
+    /** Même repli que la synchronisation quand l'API ne connaît pas la référence */
+    private static final String INSERT_PLACEHOLDER_ROCKETS = """
+            INSERT INTO rockets (id, name, type, active)
+            SELECT DISTINCT s.rocket_id, 'Unknown Rocket', 'Unknown', false
+            FROM import_launches s
+            WHERE s.rocket_id IS NOT NULL
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private static final String INSERT_PLACEHOLDER_LAUNCH_PADS = """
+            INSERT INTO launch_pads (id, name)
+            SELECT DISTINCT s.launch_pad_id, 'Unknown Launch Pad'
+            FROM import_launches s
+            WHERE s.launch_pad_id IS NOT NULL
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    /** Nouveaux lancements et lancements dont une colonne ou la liste des payloads diffère */
+    private static final String DETECT_LAUNCH_CHANGES = """
+            INSERT INTO import_changes (launch_id, change_type)
+            SELECT s.id, CASE WHEN l.id IS NULL THEN 'INSERT' ELSE 'UPDATE' END
+            FROM import_launches s
+            LEFT JOIN launches l ON l.id = s.id
+            WHERE l.id IS NULL
+               OR (l.name, l.date_utc, l.success, l.details, l.rocket_id, l.launch_pad_id)
+                  IS DISTINCT FROM (s.name, s.date_utc, s.success, s.details, s.rocket_id, s.launch_pad_id)
+               OR ARRAY(SELECT p.id FROM payloads p WHERE p.launch_id = s.id ORDER BY p.id)
+                  IS DISTINCT FROM
+                  ARRAY(SELECT lp.payload_id FROM import_launch_payloads lp WHERE lp.launch_id = s.id
+                        ORDER BY lp.payload_id)
+            """;
+
+    /** Lancements hors import dont un payload est rattaché à un lancement importé */
+    private static final String DETECT_DETACHED_PAYLOAD_CHANGES = """
+            INSERT INTO import_changes (launch_id, change_type)
+            SELECT DISTINCT p.launch_id, 'UPDATE'
+            FROM import_launch_payloads lp
+            JOIN payloads p ON p.id = lp.payload_id
+            WHERE p.launch_id <> lp.launch_id
+            ON CONFLICT (launch_id) DO NOTHING
+            """;
+
+    private static final String MERGE_LAUNCHES = """
+            INSERT INTO launches (id, name, date_utc, success, details, rocket_id, launch_pad_id, search_vector)
+            SELECT s.id, s.name, s.date_utc, s.success, s.details, s.rocket_id, s.launch_pad_id, NULL
+            FROM import_launches s
+            JOIN import_changes c ON c.launch_id = s.id
+            ON CONFLICT (id) DO UPDATE SET
+                name = EXCLUDED.name,
+                date_utc = EXCLUDED.date_utc,
+                success = EXCLUDED.success,
+                details = EXCLUDED.details,
+                rocket_id = EXCLUDED.rocket_id,
+                launch_pad_id = EXCLUDED.launch_pad_id,
+                search_vector = NULL
+            """;
+
+    /** Payloads qui ne figurent plus dans la liste du lancement importé */
+    private static final String DETACH_PAYLOADS = """
+            UPDATE payloads p SET launch_id = NULL
+            FROM import_changes c
+            JOIN import_launches s ON s.id = c.launch_id
+            WHERE p.launch_id = c.launch_id
+              AND NOT EXISTS (SELECT 1 FROM import_launch_payloads lp
+                              WHERE lp.payload_id = p.id AND lp.launch_id = p.launch_id)
+            """;
+
+    /** Payloads inconnus: créés avec leur seul id, comme par la synchronisation */
+    private static final String ATTACH_PAYLOADS = """
+            INSERT INTO payloads (id, launch_id)
+            SELECT lp.payload_id, lp.launch_id
+            FROM import_launch_payloads lp
+            JOIN import_changes c ON c.launch_id = lp.launch_id
+            ON CONFLICT (id) DO UPDATE SET launch_id = EXCLUDED.launch_id
+            WHERE payloads.launch_id IS DISTINCT FROM EXCLUDED.launch_id
+            """;
+
+    private static final String COUNT_LAUNCH_CHANGES = """
+            SELECT count(*) FILTER (WHERE c.change_type = 'INSERT'),
+                   count(*) FILTER (WHERE c.change_type = 'UPDATE' AND s.id IS NOT NULL),
+                   count(*)
+            FROM import_changes c
+            LEFT JOIN import_launches s ON s.id = c.launch_id
+            """;
+
+    // ===== Payloads =====
+
+    private static final String CREATE_PAYLOADS = """
+            CREATE TEMP TABLE import_payloads (
+                line     BIGINT NOT NULL,
+                id       VARCHAR(255) NOT NULL,
+                name     VARCHAR(255),
+                type     VARCHAR(255),
+                mass_kg  FLOAT(53),
+                orbit    VARCHAR(255),
+                customer VARCHAR(255)
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_PAYLOADS = """
+            COPY import_payloads (line, id, name, type, mass_kg, orbit, customer)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String DEDUPLICATE_PAYLOADS =
+            "DELETE FROM import_payloads a USING import_payloads b WHERE a.id = b.id AND a.line < b.line";
+
+    private static final String[] INDEX_PAYLOADS = {
+            "ALTER TABLE import_payloads ADD PRIMARY KEY (id)",
+            "ANALYZE import_payloads"
+    };
+
+    /** Payloads nouveaux ou modifiés, avec leur lancement actuel */
+    private static final String DETECT_PAYLOAD_CHANGES = """
+            CREATE TEMP TABLE import_payload_changes ON COMMIT DROP AS
+            SELECT s.id, p.id IS NULL AS inserted, p.launch_id
+            FROM import_payloads s
+            LEFT JOIN payloads p ON p.id = s.id
+            WHERE p.id IS NULL
+               OR (p.name, p.type, p.mass_kg, p.orbit, p.customer)
+                  IS DISTINCT FROM (s.name, s.type, s.mass_kg, s.orbit, s.customer)
+            """;
+
+    private static final String DETECT_PAYLOAD_LAUNCH_CHANGES = """
+            INSERT INTO import_changes (launch_id, change_type)
+            SELECT DISTINCT c.launch_id, 'UPDATE'
+            FROM import_payload_changes c
+            WHERE c.launch_id IS NOT NULL
+            """;
+
+    /** Le rattachement au lancement (launch_id) n'est pas modifié */
+    private static final String MERGE_PAYLOADS = """
+            INSERT INTO payloads (id, name, type, mass_kg, orbit, customer)
+            SELECT s.id, s.name, s.type, s.mass_kg, s.orbit, s.customer
+            FROM import_payloads s
+            JOIN import_payload_changes c ON c.id = s.id
+            ON CONFLICT (id) DO UPDATE SET
+                name = EXCLUDED.name,
+                type = EXCLUDED.type,
+                mass_kg = EXCLUDED.mass_kg,
+                orbit = EXCLUDED.orbit,
+                customer = EXCLUDED.customer
+            """;
+
+    private static final String COUNT_PAYLOAD_CHANGES = """
+            SELECT count(*) FILTER (WHERE c.inserted),
+                   count(*) FILTER (WHERE NOT c.inserted),
+                   (SELECT count(*) FROM import_changes)
+            FROM import_payload_changes c
+            """;
+
+    // ===== Commun =====
+
+    private static final String RESET_SEARCH_VECTORS = """
+            UPDATE launches l SET search_vector = NULL
+            FROM import_changes c
+            WHERE l.id = c.launch_id AND l.search_vector IS NOT NULL
+            """;
+
+    private static final String RECORD_CHANGES = """
+            INSERT INTO launch_changes (version, launch_id, change_type, changed_at)
+            SELECT :version, c.launch_id, c.change_type, now()
+            FROM import_changes c
+            """;
+
+    /**
+     * États des lancements modifiés (tags de cache): combinaisons distinctes
+     * des critères de filtre, avec la plage de dates correspondante
+     */
+    private static final String TOUCHED_STATES = """
+            SELECT l.success, l.rocket_id, l.launch_pad_id,
+                   CAST(EXTRACT(EPOCH FROM min(l.date_utc)) AS BIGINT),
+                   CAST(EXTRACT(EPOCH FROM max(l.date_utc)) AS BIGINT)
+            FROM launches l
+            JOIN import_changes c ON c.launch_id = l.id
+            GROUP BY l.success, l.rocket_id, l.launch_pad_id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Écrit les lignes CSV d'une table de travail pendant le COPY
+     */
+    @FunctionalInterface
+    public interface RowWriter {
+        void writeRows(Writer out) throws IOException;
+    }
+
+    /**
+     * Combinaison de critères d'un lancement modifié (avant ou après)
+     *
+     * @param firstDate Date la plus ancienne (null si aucune date)
+     * @param lastDate  Date la plus récente (null si aucune date)
+     */
+    public record TouchedState(
+            Boolean success,
+            String rocketId,
+            String launchPadId,
+            Instant firstDate,
+            Instant lastDate) {
+    }
+
+    /**
+     * Résultat d'une fusion
+     *
+     * @param inserted Lignes importées insérées
+     * @param updated  Lignes importées modifiées
+     * @param changes  Lancements journalisés (y compris ceux touchés indirectement)
+     * @param touched  États des lancements modifiés, avant et après la fusion
+     */
+    public record MergeResult(long inserted, long updated, long changes, List<TouchedState> touched) {
+    }
+
+    /**
+     * Charge les lancements dans la table de travail
+     * Colonnes CSV: line, id, name, date_utc, success, details, rocket_id,
+     * launch_pad_id, payload_ids (tableau PostgreSQL)
+     *
+     * @return Nombre de lancements distincts chargés
+     */
+    public long copyLaunches(RowWriter rows) {
+        execute(CREATE_CHANGES, CREATE_LAUNCHES);
+        copyIn(COPY_LAUNCHES, rows);
+        execute(DEDUPLICATE_LAUNCHES, CREATE_LAUNCH_PAYLOADS);
+        execute(INDEX_LAUNCHES);
+        return count("import_launches");
+    }
+
+    /**
+     * Fusionne les lancements chargés et journalise les changements
+     *
+     * Fusées et sites inconnus sont créés en placeholder; les payloads listés
+     * sont rattachés au lancement (créés si besoin), les autres détachés.
+     */
+    public MergeResult mergeLaunches(long version) {
+        execute(INSERT_PLACEHOLDER_ROCKETS, INSERT_PLACEHOLDER_LAUNCH_PADS,
+                DETECT_LAUNCH_CHANGES, DETECT_DETACHED_PAYLOAD_CHANGES);
+        List<TouchedState> touched = new ArrayList<>(findTouchedStates());
+
+        execute(MERGE_LAUNCHES, DETACH_PAYLOADS, ATTACH_PAYLOADS, RESET_SEARCH_VECTORS);
+        recordChanges(version);
+        touched.addAll(findTouchedStates());
+
+        Object[] counts = (Object[]) entityManager.createNativeQuery(COUNT_LAUNCH_CHANGES).getSingleResult();
+        return new MergeResult(longValue(counts[0]), longValue(counts[1]), longValue(counts[2]), touched);
+    }
+
+    /**
+     * Charge les payloads dans la table de travail
+     * Colonnes CSV: line, id, name, type, mass_kg, orbit, customer
+     *
+     * @return Nombre de payloads distincts chargés
+     */
+    public long copyPayloads(RowWriter rows) {
+        execute(CREATE_CHANGES, CREATE_PAYLOADS);
+        copyIn(COPY_PAYLOADS, rows);
+        execute(DEDUPLICATE_PAYLOADS);
+        execute(INDEX_PAYLOADS);
+        return count("import_payloads");
+    }
+
+    /**
+     * Fusionne les payloads chargés (sans toucher à leur lancement)
+     * Les lancements portant un payload modifié sont journalisés en UPDATE.
+     */
+    public MergeResult mergePayloads(long version) {
+        execute(DETECT_PAYLOAD_CHANGES, DETECT_PAYLOAD_LAUNCH_CHANGES, MERGE_PAYLOADS, RESET_SEARCH_VECTORS);
+        recordChanges(version);
+
+        Object[] counts = (Object[]) entityManager.createNativeQuery(COUNT_PAYLOAD_CHANGES).getSingleResult();
+        return new MergeResult(longValue(counts[0]), longValue(counts[1]), longValue(counts[2]),
+                findTouchedStates());
+    }
+
+    private void recordChanges(long version) {
+        entityManager.createNativeQuery(RECORD_CHANGES)
+                .setParameter("version", version)
+                .executeUpdate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TouchedState> findTouchedStates() {
+        List<Object[]> rows = entityManager.createNativeQuery(TOUCHED_STATES).getResultList();
+        return rows.stream()
+                .map(row -> new TouchedState(
+                        (Boolean) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        row[3] != null ? Instant.ofEpochSecond(longValue(row[3])) : null,
+                        row[4] != null ? Instant.ofEpochSecond(longValue(row[4])) : null))
+                .toList();
+    }
+
+    private long count(String table) {
+        return longValue(entityManager.createNativeQuery("SELECT count(*) FROM " + table).getSingleResult());
+    }
+
+    /**
+     * DDL et ordres sans résultat sur la connexion de la transaction
+     */
+    private void execute(String... statements) {
+        session().doWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : statements) {
+                    statement.execute(sql);
+                }
+            }
+        });
+    }
+
+    /**
+     * COPY ... FROM STDIN: les lignes sont envoyées au serveur au fil de
+     * leur écriture (tampon de COPY_BUFFER_SIZE octets)
+     */
+    private long copyIn(String copySql, RowWriter rows) {
+        return session().doReturningWork(connection -> {
+            PGCopyOutputStream copy = new PGCopyOutputStream(
+                    connection.unwrap(PGConnection.class), copySql, COPY_BUFFER_SIZE);
+            try {
+                Writer writer = new BufferedWriter(
+                        new OutputStreamWriter(copy, StandardCharsets.UTF_8), COPY_BUFFER_SIZE);
+                rows.writeRows(writer);
+                writer.flush();
+                return copy.endCopy();
+            } catch (IOException | RuntimeException e) {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+                throw e instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) e;
+            }
+        });
+    }
+
+    private Session session() {
+        return entityManager.unwrap(Session.class);
+    }
+
+    private static long longValue(Object value) {
+        return ((Number) value).longValue();
+    }
+}
@@ -3,22 +3,40 @@ package com.spacex.launcher.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.spacex.launcher.cache.ReferenceDataCache;
 import com.spacex.launcher.model.LaunchPad;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository pour l'entité LaunchPad
  *
  * Fournit des méthodes de recherche avancées pour les sites de lancement
+ * Recherche géographique (rayon, plus proches voisins) via
+ * LaunchPadRepositoryCustom et la colonne geohash
  */
 @Repository
-public interface LaunchPadRepository extends JpaRepository<LaunchPad, String> {
+public interface LaunchPadRepository extends JpaRepository<LaunchPad, String>, LaunchPadRepositoryCustom {
+
+    /**
+     * Page de launchpads (catalogue sans recherche)
+     * En cache de requêtes, comme RocketRepository.findAll(Pageable)
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.QUERY_REGION)
+    })
+    Page<LaunchPad> findAll(Pageable pageable);
 
     /**
      * Trouve un launchpad par son nom (insensible à la casse)
@@ -45,36 +63,24 @@ public interface LaunchPadRepository extends JpaRepository<LaunchPad, String> {
     List<LaunchPad> findByLocality(String locality);
 
     /**
-     * Trouve les launchpads dans un rayon géographique
-     * Utilise la formule de Haversine pour calculer la distance
+     * Recherche de launchpads par nom, tolérante aux fautes de frappe
+     * Similarité trigramme (pg_trgm, seuil de la transaction) ou fragment
+     * contenu dans le nom; les deux conditions utilisent l'index GIN
+     * trigramme du nom. Résultats triés par similarité décroissante.
      *
-     * @param latitude  Latitude du point de référence
-     * @param longitude Longitude du point de référence
-     * @param radiusKm  Rayon de recherche en kilomètres
-     * @return Liste des launchpads dans le rayon
-     */
-    @Query("""
-            SELECT lp FROM LaunchPad lp
-            WHERE (6371 * acos(
-                cos(radians(:latitude)) * cos(radians(lp.latitude)) *
-                cos(radians(lp.longitude) - radians(:longitude)) +
-                sin(radians(:latitude)) * sin(radians(lp.latitude))
-            )) <= :radiusKm
-            """)
-    List<LaunchPad> findWithinRadius(
-            @Param("latitude") Double latitude,
-            @Param("longitude") Double longitude,
-            @Param("radiusKm") Double radiusKm);
-
-    /**
-     * Recherche de launchpads par nom partiel (LIKE)
-     *
-     * @param name     Fragment du nom
-     * @param pageable Configuration de pagination
+     * @param name     Texte recherché
+     * @param pattern  Motif ILIKE du fragment (ex: "%falcon%", jokers échappés)
+     * @param pageable Pagination (sans tri: l'ordre est fixé par la requête)
      * @return Page de launchpads correspondants
      */
-    @Query("SELECT lp FROM LaunchPad lp WHERE LOWER(lp.name) LIKE LOWER(CONCAT('%', :name, '%'))")
-    Page<LaunchPad> searchByName(String name, Pageable pageable);
+    @Query(value = """
+            SELECT lp.* FROM launch_pads lp
+            WHERE lp.name % :name OR lp.name ILIKE :pattern
+            ORDER BY similarity(lp.name, :name) DESC, lp.name
+            """,
+            countQuery = "SELECT count(*) FROM launch_pads lp WHERE lp.name % :name OR lp.name ILIKE :pattern",
+            nativeQuery = true)
+    Page<LaunchPad> searchByName(@Param("name") String name, @Param("pattern") String pattern, Pageable pageable);
 
     /**
      * Vérifie si un launchpad existe par son nom
@@ -107,4 +113,14 @@ public interface LaunchPadRepository extends JpaRepository<LaunchPad, String> {
      */
     @Query("SELECT lp FROM LaunchPad lp WHERE lp.latitude IS NOT NULL AND lp.longitude IS NOT NULL")
     List<LaunchPad> findAllWithCoordinates();
+
+    /**
+     * Launchpads avec coordonnées mais sans geohash (données antérieures à
+     * la colonne geohash)
+     */
+    @Query("""
+            SELECT lp FROM LaunchPad lp
+            WHERE lp.geohash IS NULL AND lp.latitude IS NOT NULL AND lp.longitude IS NOT NULL
+            """)
+    List<LaunchPad> findMissingGeohash();
 }
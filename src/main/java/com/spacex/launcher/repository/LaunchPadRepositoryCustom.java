@@ -0,0 +1,24 @@
+package com.spacex.launcher.repository;
+
+import java.util.List;
+
+import com.spacex.launcher.geo.GeoBox;
+import com.spacex.launcher.model.LaunchPad;
+
+/**
+ * Requêtes géographiques de LaunchPadRepository (Criteria API)
+ */
+public interface LaunchPadRepositoryCustom {
+
+    /**
+     * Launchpads situés dans au moins un des rectangles
+     *
+     * Préfiltre indexé sur les cellules geohash couvrant chaque rectangle,
+     * puis filtre exact sur latitude / longitude. La distance exacte est
+     * vérifiée par l'appelant.
+     *
+     * @param boxes Rectangles (sans traversée de l'antiméridien)
+     * @return Launchpads candidats
+     */
+    List<LaunchPad> findInBoxes(List<GeoBox> boxes);
+}
@@ -0,0 +1,63 @@
+package com.spacex.launcher.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.spacex.launcher.geo.GeoBox;
+import com.spacex.launcher.geo.Geohash;
+import com.spacex.launcher.model.LaunchPad;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Implémentation Criteria API de LaunchPadRepositoryCustom
+ */
+public class LaunchPadRepositoryCustomImpl implements LaunchPadRepositoryCustom {
+
+    /** Nombre maximum de cellules geohash par rectangle (intervalles dans le OR) */
+    private static final int MAX_CELLS_PER_BOX = 16;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<LaunchPad> findInBoxes(List<GeoBox> boxes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<LaunchPad> query = cb.createQuery(LaunchPad.class);
+        Root<LaunchPad> launchPad = query.from(LaunchPad.class);
+
+        Path<String> geohash = launchPad.get("geohash");
+        Path<Double> latitude = launchPad.get("latitude");
+        Path<Double> longitude = launchPad.get("longitude");
+
+        List<Predicate> areas = new ArrayList<>();
+        for (GeoBox box : boxes) {
+            Predicate inBox = cb.and(
+                    cb.between(latitude, box.minLatitude(), box.maxLatitude()),
+                    cb.between(longitude, box.minLongitude(), box.maxLongitude()));
+            if (box.equals(GeoBox.WORLD)) {
+                areas.add(inBox);
+                continue;
+            }
+
+            // geohash >= cellule AND geohash < cellule suivante: intervalles de l'index
+            List<Predicate> cells = new ArrayList<>();
+            for (String cell : Geohash.coveringCells(box, MAX_CELLS_PER_BOX)) {
+                String upperBound = Geohash.upperBound(cell);
+                cells.add(upperBound != null
+                        ? cb.and(cb.greaterThanOrEqualTo(geohash, cell), cb.lessThan(geohash, upperBound))
+                        : cb.greaterThanOrEqualTo(geohash, cell));
+            }
+            areas.add(cb.and(cb.or(cells.toArray(Predicate[]::new)), inBox));
+        }
+
+        query.select(launchPad).where(cb.or(areas.toArray(Predicate[]::new)));
+        return entityManager.createQuery(query).getResultList();
+    }
+}
@@ -1,6 +1,8 @@
 package com.spacex.launcher.repository;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -10,6 +12,11 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.spacex.launcher.dto.AutocompleteTerm;
+import com.spacex.launcher.dto.LaunchDetail;
+import com.spacex.launcher.dto.LaunchPayloadRow;
+import com.spacex.launcher.dto.LaunchSummary;
+import com.spacex.launcher.dto.PayloadSummary;
 import com.spacex.launcher.model.Launch;
 
 /**
@@ -18,102 +25,149 @@ import com.spacex.launcher.model.Launch;
  * OPTIMISATIONS APPLIQUÉES:
  * - Utilisation de @Query avec JOIN FETCH pour éviter N+1 problem
  * - Queries dédiées pour les cas d'usage métier
+ * - Lectures du tableau de bord par projection (constructeur de record):
+ * seules les colonnes affichées, aucune entité gérée
  * - Méthodes nommées selon Spring Data conventions
+ * - Recherche plein texte PostgreSQL (tsvector + GIN) via LaunchSearchRepository
  */
 @Repository
-public interface LaunchRepository extends JpaRepository<Launch, String> {
+public interface LaunchRepository
+        extends JpaRepository<Launch, String>, LaunchRepositoryCustom, LaunchSearchRepository {
 
     /**
      * Trouve le prochain lancement (date future la plus proche)
      * Utilisé pour le KPI "Next Launch"
      *
      * @param now Date actuelle
-     * @return Optional contenant le prochain lancement
+     * @return Optional contenant la vue compacte du prochain lancement
      */
     @Query("""
-            SELECT l FROM Launch l
-            LEFT JOIN FETCH l.rocket
-            LEFT JOIN FETCH l.launchPad
+            SELECT new com.spacex.launcher.dto.LaunchSummary(
+                l.id, l.name, l.dateUtc, l.success, r.id, r.name, p.id, p.name)
+            FROM Launch l
+            LEFT JOIN l.rocket r
+            LEFT JOIN l.launchPad p
             WHERE l.dateUtc > :now
             ORDER BY l.dateUtc ASC
             LIMIT 1
             """)
-    Optional<Launch> findNextLaunch(@Param("now") Instant now);
+    Optional<LaunchSummary> findNextLaunch(@Param("now") Instant now);
 
     /**
-     * Récupère tous les lancements avec pagination
-     * JOIN FETCH pour éviter le N+1 problem
+     * Dates des lancements postérieurs à une date, triées
+     * Utilisé pour l'ETag des KPIs (prochain lancement) sans calculer les KPIs
      *
-     * @param pageable Configuration de pagination
-     * @return Page de lancements avec rocket et launchpad chargés
+     * @param after Date de publication de la version
      */
-    @Query(value = """
-            SELECT DISTINCT l FROM Launch l
-            LEFT JOIN FETCH l.rocket
-            LEFT JOIN FETCH l.launchPad
-            ORDER BY l.dateUtc DESC
-            """, countQuery = "SELECT COUNT(l) FROM Launch l")
-    Page<Launch> findAllWithDetails(Pageable pageable);
+    @Query("SELECT l.dateUtc FROM Launch l WHERE l.dateUtc > :after ORDER BY l.dateUtc ASC")
+    List<Instant> findLaunchDatesAfter(@Param("after") Instant after);
 
     /**
-     * Filtre par année avec JOIN FETCH
+     * Récupère un lancement par ID avec toutes ses relations
+     * Utilisé par la synchronisation (comparaison avec l'état en base)
+     * Fusée et site sont résolus par clé étrangère depuis le cache de second
+     * niveau: seuls les payloads sont joints
      *
-     * @param start    Début de l'année
-     * @param end      Fin de l'année
-     * @param pageable Configuration de pagination
-     * @return Page de lancements pour l'année donnée
+     * @param id ID du lancement
+     * @return Optional contenant le lancement avec toutes ses relations
      */
-    @Query(value = """
+    @Query("""
             SELECT DISTINCT l FROM Launch l
-            LEFT JOIN FETCH l.rocket
-            LEFT JOIN FETCH l.launchPad
-            WHERE l.dateUtc BETWEEN :start AND :end
-            ORDER BY l.dateUtc DESC
-            """, countQuery = """
-            SELECT COUNT(l) FROM Launch l
-            WHERE l.dateUtc BETWEEN :start AND :end
+            LEFT JOIN FETCH l.payloads
+            WHERE l.id = :id
             """)
-    Page<Launch> findByYearWithDetails(
-            @Param("start") Instant start,
-            @Param("end") Instant end,
-            Pageable pageable);
+    Optional<Launch> findByIdWithDetails(@Param("id") String id);
 
     /**
-     * Filtre par statut de succès avec JOIN FETCH
+     * Vues compactes de plusieurs lancements (projection)
+     * Utilisé par le flux de changements
      *
-     * @param success  Statut de succès (true/false)
-     * @param pageable Configuration de pagination
-     * @return Page de lancements filtrés par succès
+     * @param ids IDs des lancements
+     * @return Vues trouvées (ordre non garanti)
      */
-    @Query(value = """
-            SELECT DISTINCT l FROM Launch l
-            LEFT JOIN FETCH l.rocket
-            LEFT JOIN FETCH l.launchPad
-            WHERE l.success = :success
-            ORDER BY l.dateUtc DESC
-            """, countQuery = """
-            SELECT COUNT(l) FROM Launch l
-            WHERE l.success = :success
+    @Query("""
+            SELECT new com.spacex.launcher.dto.LaunchSummary(
+                l.id, l.name, l.dateUtc, l.success, r.id, r.name, p.id, p.name)
+            FROM Launch l
+            LEFT JOIN l.rocket r
+            LEFT JOIN l.launchPad p
+            WHERE l.id IN :ids
             """)
-    Page<Launch> findBySuccessWithDetails(
-            @Param("success") Boolean success,
-            Pageable pageable);
+    List<LaunchSummary> findSummariesByIds(@Param("ids") Collection<String> ids);
 
     /**
-     * Récupère un lancement par ID avec tous ses détails
+     * Détail d'un lancement sans ses payloads (projection)
      * Utilisé pour la page de détail
      *
      * @param id ID du lancement
-     * @return Optional contenant le lancement avec toutes ses relations
+     * @return Optional contenant le détail du lancement
      */
     @Query("""
-            SELECT DISTINCT l FROM Launch l
-            LEFT JOIN FETCH l.rocket
-            LEFT JOIN FETCH l.launchPad
-            LEFT JOIN FETCH l.payloads
+            SELECT new com.spacex.launcher.dto.LaunchDetail(
+                l.id, l.name, l.dateUtc, l.success, l.details,
+                r.id, r.name, r.type, p.id, p.name, p.locality, p.region)
+            FROM Launch l
+            LEFT JOIN l.rocket r
+            LEFT JOIN l.launchPad p
             WHERE l.id = :id
             """)
-    Optional<Launch> findByIdWithDetails(@Param("id") String id);
+    Optional<LaunchDetail> findDetailById(@Param("id") String id);
+
+    /**
+     * Détail de plusieurs lancements (WHERE id IN), sans leurs payloads
+     * Utilisé par la consultation groupée (ordre non garanti)
+     */
+    @Query("""
+            SELECT new com.spacex.launcher.dto.LaunchDetail(
+                l.id, l.name, l.dateUtc, l.success, l.details,
+                r.id, r.name, r.type, p.id, p.name, p.locality, p.region)
+            FROM Launch l
+            LEFT JOIN l.rocket r
+            LEFT JOIN l.launchPad p
+            WHERE l.id IN :ids
+            """)
+    List<LaunchDetail> findDetailsByIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * Payloads de plusieurs lancements en une requête (projection)
+     *
+     * @param launchIds IDs des lancements
+     * @return Payloads avec l'ID de leur lancement, triés par nom
+     */
+    @Query("""
+            SELECT new com.spacex.launcher.dto.LaunchPayloadRow(
+                l.id, p.id, p.name, p.type, p.massKg, p.orbit, p.customer)
+            FROM Launch l
+            JOIN l.payloads p
+            WHERE l.id IN :launchIds
+            ORDER BY p.name
+            """)
+    List<LaunchPayloadRow> findPayloadRowsByLaunchIds(@Param("launchIds") Collection<String> launchIds);
+
+    /**
+     * Payloads d'un lancement (projection)
+     *
+     * @param launchId ID du lancement
+     * @return Payloads du lancement
+     */
+    @Query("""
+            SELECT new com.spacex.launcher.dto.PayloadSummary(
+                p.id, p.name, p.type, p.massKg, p.orbit, p.customer)
+            FROM Launch l
+            JOIN l.payloads p
+            WHERE l.id = :launchId
+            ORDER BY p.name
+            """)
+    List<PayloadSummary> findPayloadSummaries(@Param("launchId") String launchId);
+
+    /**
+     * Liste les IDs de tous les lancements
+     * Utilisé par la synchronisation pour détecter les suppressions
+     *
+     * @return IDs des lancements en base
+     */
+    @Query("SELECT l.id FROM Launch l")
+    List<String> findAllIds();
 
     /**
      * Compte le nombre total de lancements réussis
@@ -173,6 +227,23 @@ public interface LaunchRepository extends JpaRepository<Launch, String> {
             @Param("start") Instant start,
             @Param("end") Instant end);
 
+    /**
+     * Date du premier lancement
+     * Utilisé pour déterminer les années des statistiques
+     *
+     * @return Date la plus ancienne (null si aucun lancement)
+     */
+    @Query("SELECT MIN(l.dateUtc) FROM Launch l")
+    Instant findFirstLaunchDate();
+
+    /**
+     * Date du dernier lancement (passé ou à venir)
+     *
+     * @return Date la plus récente (null si aucun lancement)
+     */
+    @Query("SELECT MAX(l.dateUtc) FROM Launch l")
+    Instant findLastLaunchDate();
+
     /**
      * Trouve tous les lancements d'une fusée spécifique
      *
@@ -190,4 +261,54 @@ public interface LaunchRepository extends JpaRepository<Launch, String> {
      * @return Page de lancements pour ce launchpad
      */
     Page<Launch> findByLaunchPadId(String launchPadId, Pageable pageable);
+
+    /**
+     * Termes d'autocomplétion: noms des lancements
+     */
+    @Query("""
+            SELECT new com.spacex.launcher.dto.AutocompleteTerm(l.id, l.name, 1L, l.dateUtc)
+            FROM Launch l
+            WHERE l.name IS NOT NULL
+            """)
+    List<AutocompleteTerm> findLaunchNameTerms();
+
+    /**
+     * Termes d'autocomplétion: noms des fusées, avec leur nombre de
+     * lancements et la date du plus récent
+     */
+    @Query("""
+            SELECT new com.spacex.launcher.dto.AutocompleteTerm(r.id, r.name, COUNT(l), MAX(l.dateUtc))
+            FROM Rocket r
+            LEFT JOIN Launch l ON l.rocket = r
+            WHERE r.name IS NOT NULL
+            GROUP BY r.id, r.name
+            """)
+    List<AutocompleteTerm> findRocketNameTerms();
+
+    /**
+     * Termes d'autocomplétion: noms des sites de lancement, avec leur nombre
+     * de lancements et la date du plus récent
+     */
+    @Query("""
+            SELECT new com.spacex.launcher.dto.AutocompleteTerm(lp.id, lp.name, COUNT(l), MAX(l.dateUtc))
+            FROM LaunchPad lp
+            LEFT JOIN Launch l ON l.launchPad = lp
+            WHERE lp.name IS NOT NULL
+            GROUP BY lp.id, lp.name
+            """)
+    List<AutocompleteTerm> findLaunchPadNameTerms();
+
+    /**
+     * Termes d'autocomplétion: clients des payloads, avec leur nombre de
+     * payloads et la date du lancement le plus récent
+     */
+    @Query("""
+            SELECT new com.spacex.launcher.dto.AutocompleteTerm(
+                CAST(NULL AS String), p.customer, COUNT(p), MAX(l.dateUtc))
+            FROM Launch l
+            JOIN l.payloads p
+            WHERE p.customer IS NOT NULL
+            GROUP BY p.customer
+            """)
+    List<AutocompleteTerm> findCustomerTerms();
 }
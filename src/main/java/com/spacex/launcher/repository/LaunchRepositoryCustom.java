@@ -0,0 +1,77 @@
+package com.spacex.launcher.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.spacex.launcher.dto.LaunchCursor;
+import com.spacex.launcher.dto.LaunchDetail;
+import com.spacex.launcher.dto.LaunchFilter;
+import com.spacex.launcher.dto.LaunchPayloadRow;
+import com.spacex.launcher.dto.LaunchSummary;
+
+/**
+ * Requêtes de LaunchRepository construites dynamiquement (Criteria API)
+ *
+ * Chaque combinaison de filtres produit une seule requête SQL; les
+ * prédicats correspondent aux index composites de launches et payloads.
+ */
+public interface LaunchRepositoryCustom {
+
+    /**
+     * Lancements correspondant à une combinaison de filtres, paginés
+     *
+     * @param filter   Filtres (combinés par ET)
+     * @param pageable Pagination (tri par date DESC si non précisé)
+     * @return Page de vues compactes (projection, sans entité)
+     */
+    Page<LaunchSummary> findSummaries(LaunchFilter filter, Pageable pageable);
+
+    /**
+     * Pagination par curseur (keyset) triée par (dateUtc DESC, id DESC)
+     * Pas d'OFFSET ni de COUNT: le coût d'une tranche ne dépend pas de sa
+     * profondeur. Les lancements sans date sont exclus.
+     *
+     * @param filter Filtres (combinés par ET)
+     * @param after  Dernier élément de la tranche précédente (null = début)
+     * @param limit  Nombre maximum de lancements
+     * @return Vues compactes (projection, sans entité)
+     */
+    List<LaunchSummary> findSummarySlice(LaunchFilter filter, LaunchCursor after, int limit);
+
+    /**
+     * Tous les lancements correspondant aux filtres, triés par (dateUtc DESC,
+     * id DESC), lus par un curseur JDBC côté serveur
+     * Les lignes sont lues par lots de fetchSize au fil de la consommation:
+     * le résultat n'est jamais chargé en entier. À consommer dans une
+     * transaction puis à fermer.
+     *
+     * @param filter    Filtres (combinés par ET)
+     * @param fetchSize Nombre de lignes lues par aller-retour
+     * @return Flux de vues compactes (projection, sans entité)
+     */
+    Stream<LaunchSummary> streamSummaries(LaunchFilter filter, int fetchSize);
+
+    /**
+     * Tous les lancements avec fusée et site (projection), par date
+     * Lus par curseur JDBC comme streamSummaries; utilisé par l'export Arrow.
+     *
+     * @param fetchSize Nombre de lignes lues par aller-retour
+     */
+    Stream<LaunchDetail> streamAllDetails(int fetchSize);
+
+    /**
+     * Tous les payloads avec l'ID de leur lancement (projection)
+     * Lus par curseur JDBC comme streamSummaries; utilisé par l'export Arrow.
+     *
+     * @param fetchSize Nombre de lignes lues par aller-retour
+     */
+    Stream<LaunchPayloadRow> streamAllPayloads(int fetchSize);
+
+    /**
+     * Nombre de lancements correspondant à une combinaison de filtres
+     */
+    long countByFilter(LaunchFilter filter);
+}
@@ -0,0 +1,311 @@
+package com.spacex.launcher.repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.spacex.launcher.dto.LaunchCursor;
+import com.spacex.launcher.dto.LaunchDetail;
+import com.spacex.launcher.dto.LaunchFilter;
+import com.spacex.launcher.dto.LaunchPayloadRow;
+import com.spacex.launcher.dto.LaunchSummary;
+import com.spacex.launcher.model.Launch;
+import com.spacex.launcher.model.LaunchPad;
+import com.spacex.launcher.model.Payload;
+import com.spacex.launcher.model.Rocket;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Implémentation Criteria API de LaunchRepositoryCustom
+ * (JPQL pour les requêtes fixes lues par curseur)
+ */
+public class LaunchRepositoryCustomImpl implements LaunchRepositoryCustom {
+
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "dateUtc");
+
+    private static final String ALL_DETAILS = """
+            SELECT new com.spacex.launcher.dto.LaunchDetail(
+                l.id, l.name, l.dateUtc, l.success, l.details,
+                r.id, r.name, r.type, p.id, p.name, p.locality, p.region)
+            FROM Launch l
+            LEFT JOIN l.rocket r
+            LEFT JOIN l.launchPad p
+            ORDER BY l.dateUtc, l.id
+            """;
+
+    private static final String ALL_PAYLOADS = """
+            SELECT new com.spacex.launcher.dto.LaunchPayloadRow(
+                l.id, p.id, p.name, p.type, p.massKg, p.orbit, p.customer)
+            FROM Launch l
+            JOIN l.payloads p
+            ORDER BY l.id, p.id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<LaunchSummary> findSummaries(LaunchFilter filter, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Launch> launch = query.from(Launch.class);
+
+        // Tri demandé puis id: ordre stable entre les pages
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : DEFAULT_SORT;
+        List<Order> orders = new ArrayList<>(QueryUtils.toOrders(sort, launch, cb));
+        orders.add(cb.desc(launch.get("id")));
+
+        query.multiselect(summaryColumns(launch))
+                .where(predicates(filter, query, launch, cb).toArray(Predicate[]::new))
+                .orderBy(orders);
+
+        List<LaunchSummary> content = toSummaries(entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList());
+
+        // COUNT évité quand la page est incomplète
+        return PageableExecutionUtils.getPage(content, pageable, () -> countByFilter(filter));
+    }
+
+    @Override
+    public List<LaunchSummary> findSummarySlice(LaunchFilter filter, LaunchCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Launch> launch = query.from(Launch.class);
+
+        Path<Instant> dateUtc = launch.get("dateUtc");
+        Path<String> id = launch.get("id");
+
+        List<Predicate> predicates = predicates(filter, query, launch, cb);
+        predicates.add(cb.isNotNull(dateUtc));
+        if (after != null) {
+            // (dateUtc, id) < (:date, :id)
+            predicates.add(cb.or(
+                    cb.lessThan(dateUtc, after.dateUtc()),
+                    cb.and(cb.equal(dateUtc, after.dateUtc()), cb.lessThan(id, after.id()))));
+        }
+
+        query.multiselect(summaryColumns(launch))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(dateUtc), cb.desc(id));
+
+        return toSummaries(entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList());
+    }
+
+    @Override
+    public Stream<LaunchSummary> streamSummaries(LaunchFilter filter, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<LaunchSummary> query = cb.createQuery(LaunchSummary.class);
+        Root<Launch> launch = query.from(Launch.class);
+
+        // Un seul passage: noms joints en SQL plutôt que résolus par lot
+        Join<Launch, Rocket> rocket = launch.join("rocket", JoinType.LEFT);
+        Join<Launch, LaunchPad> launchPad = launch.join("launchPad", JoinType.LEFT);
+        query.select(cb.construct(LaunchSummary.class,
+                        launch.get("id"),
+                        launch.get("name"),
+                        launch.get("dateUtc"),
+                        launch.get("success"),
+                        rocket.get("id"),
+                        rocket.get("name"),
+                        launchPad.get("id"),
+                        launchPad.get("name")))
+                .where(predicates(filter, query, launch, cb).toArray(Predicate[]::new))
+                .orderBy(cb.desc(launch.get("dateUtc")), cb.desc(launch.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<LaunchDetail> streamAllDetails(int fetchSize) {
+        return entityManager.createQuery(ALL_DETAILS, LaunchDetail.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<LaunchPayloadRow> streamAllPayloads(int fetchSize) {
+        return entityManager.createQuery(ALL_PAYLOADS, LaunchPayloadRow.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public long countByFilter(LaunchFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Launch> launch = query.from(Launch.class);
+
+        query.select(cb.count(launch))
+                .where(predicates(filter, query, launch, cb).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Colonnes de LaunchSummary lues en SQL: celles du lancement et les clés
+     * étrangères, sans jointure sur rockets ni launch_pads
+     */
+    private static List<Selection<?>> summaryColumns(Root<Launch> launch) {
+        return List.of(
+                launch.get("id"),
+                launch.get("name"),
+                launch.get("dateUtc"),
+                launch.get("success"),
+                launch.get("rocket").get("id"),
+                launch.get("launchPad").get("id"));
+    }
+
+    /**
+     * Projection LaunchSummary: noms des fusées et des sites résolus par clé
+     * depuis le contexte de persistance puis le cache de second niveau; seuls
+     * les absents sont lus, en une requête IN par type
+     */
+    private List<LaunchSummary> toSummaries(List<Tuple> rows) {
+        Map<String, String> rocketNames = names(Rocket.class, rows, 4, Rocket::getId, Rocket::getName);
+        Map<String, String> launchPadNames = names(LaunchPad.class, rows, 5, LaunchPad::getId, LaunchPad::getName);
+
+        List<LaunchSummary> summaries = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            String rocketId = row.get(4, String.class);
+            String launchPadId = row.get(5, String.class);
+            summaries.add(new LaunchSummary(
+                    row.get(0, String.class),
+                    row.get(1, String.class),
+                    row.get(2, Instant.class),
+                    row.get(3, Boolean.class),
+                    rocketId,
+                    rocketNames.get(rocketId),
+                    launchPadId,
+                    launchPadNames.get(launchPadId)));
+        }
+        return summaries;
+    }
+
+    private <T> Map<String, String> names(
+            Class<T> entityType,
+            List<Tuple> rows,
+            int idColumn,
+            Function<T, String> idOf,
+            Function<T, String> nameOf) {
+        List<String> ids = rows.stream()
+                .map(row -> row.get(idColumn, String.class))
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        // HashMap même vide: lancements sans fusée ou sans site (clé null)
+        Map<String, String> names = new HashMap<>();
+        if (ids.isEmpty()) {
+            return names;
+        }
+
+        entityManager.unwrap(Session.class)
+                .byMultipleIds(entityType)
+                // Sans mode explicite, multiLoad ne consulte pas le cache de second niveau
+                .with(CacheMode.NORMAL)
+                .multiLoad(ids)
+                .stream()
+                .filter(Objects::nonNull)
+                .forEach(entity -> names.put(idOf.apply(entity), nameOf.apply(entity)));
+        return names;
+    }
+
+    /**
+     * Traduit les filtres en prédicats SQL
+     * - date: plage sur date_utc (année et from/to combinés)
+     * - fusée / site / succès: égalité (index composites avec date_utc)
+     * - orbite / client: EXISTS sur payloads (index payloads(orbit|customer, launch_id))
+     */
+    private static List<Predicate> predicates(
+            LaunchFilter filter,
+            AbstractQuery<?> query,
+            Root<Launch> launch,
+            CriteriaBuilder cb) {
+
+        List<Predicate> predicates = new ArrayList<>();
+        Path<Instant> dateUtc = launch.get("dateUtc");
+
+        Instant from = filter.effectiveFrom();
+        Instant to = filter.effectiveTo();
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(dateUtc, from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThanOrEqualTo(dateUtc, to));
+        }
+        if (filter.upcoming() != null) {
+            Instant now = Instant.now();
+            predicates.add(filter.upcoming()
+                    ? cb.greaterThan(dateUtc, now)
+                    : cb.lessThanOrEqualTo(dateUtc, now));
+        }
+        if (filter.success() != null) {
+            predicates.add(cb.equal(launch.get("success"), filter.success()));
+        }
+        if (filter.rocketId() != null) {
+            predicates.add(cb.equal(launch.get("rocket").get("id"), filter.rocketId()));
+        }
+        if (filter.launchPadId() != null) {
+            predicates.add(cb.equal(launch.get("launchPad").get("id"), filter.launchPadId()));
+        }
+        if (filter.orbit() != null || filter.customer() != null) {
+            predicates.add(cb.exists(payloadSubquery(filter, query, launch, cb)));
+        }
+        return predicates;
+    }
+
+    private static Subquery<String> payloadSubquery(
+            LaunchFilter filter,
+            AbstractQuery<?> query,
+            Root<Launch> launch,
+            CriteriaBuilder cb) {
+
+        Subquery<String> subquery = query.subquery(String.class);
+        Root<Launch> correlated = subquery.correlate(launch);
+        Join<Launch, Payload> payload = correlated.join("payloads");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.orbit() != null) {
+            predicates.add(cb.equal(payload.get("orbit"), filter.orbit()));
+        }
+        if (filter.customer() != null) {
+            predicates.add(cb.equal(payload.get("customer"), filter.customer()));
+        }
+        return subquery.select(payload.get("id")).where(predicates.toArray(Predicate[]::new));
+    }
+}
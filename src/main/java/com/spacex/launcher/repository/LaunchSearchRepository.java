@@ -0,0 +1,49 @@
+package com.spacex.launcher.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.spacex.launcher.dto.LaunchSearchHit;
+
+/**
+ * Recherche plein texte PostgreSQL sur les lancements (fragment de
+ * LaunchRepository)
+ *
+ * La colonne launches.search_vector (tsvector, index GIN) agrège par ordre
+ * de poids: nom du lancement (A), fusée et site (B), payloads et clients
+ * (C), détails (D). Elle n'est pas mappée sur l'entité et est recalculée
+ * par la synchronisation.
+ */
+public interface LaunchSearchRepository {
+
+    /**
+     * Lancements correspondant à une requête, triés par pertinence
+     *
+     * @param query      Requête utilisateur (syntaxe websearch: "...", OR, -)
+     * @param textConfig Configuration de recherche PostgreSQL (ex: english)
+     * @param offset     Nombre de résultats à sauter
+     * @param limit      Nombre maximum de résultats
+     * @return Résultats avec score et extrait surligné (texte source échappé en HTML)
+     */
+    List<LaunchSearchHit> search(String query, String textConfig, long offset, int limit);
+
+    /**
+     * Nombre de lancements correspondant à une requête
+     */
+    long countSearch(String query, String textConfig);
+
+    /**
+     * Recalcule le vecteur de recherche des lancements donnés
+     *
+     * @return Nombre de lignes mises à jour
+     */
+    int refreshSearchVectors(Collection<String> launchIds, String textConfig);
+
+    /**
+     * Calcule le vecteur de recherche des lancements qui n'en ont pas encore
+     * (données existantes, changement de configuration)
+     *
+     * @return Nombre de lignes mises à jour
+     */
+    int refreshMissingSearchVectors(String textConfig);
+}
@@ -0,0 +1,134 @@
+package com.spacex.launcher.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.query.NativeQuery;
+
+import com.spacex.launcher.dto.LaunchSearchHit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Implémentation SQL native de LaunchSearchRepository (PostgreSQL uniquement)
+ */
+public class LaunchSearchRepositoryImpl implements LaunchSearchRepository {
+
+    /** Extrait: deux fragments au plus, termes trouvés entre balises mark */
+    private static final String HEADLINE_OPTIONS =
+            "StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=25, MinWords=8";
+
+    /*
+     * Nom et détails échappés (HTML) avant le surlignage: les balises mark
+     * sont le seul balisage de l'extrait, même pour un texte importé
+     * contenant du HTML
+     */
+    private static final String HEADLINE_SOURCE = """
+            replace(replace(replace(replace(replace(concat_ws('. ', l.name, l.details),
+                    '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), '"', '&quot;'), '''', '&#39;')""";
+
+    private static final String SEARCH_VECTOR = """
+            setweight(to_tsvector(CAST(:config AS regconfig), coalesce(l.name, '')), 'A')
+            || setweight(to_tsvector(CAST(:config AS regconfig),
+                    coalesce((SELECT r.name FROM rockets r WHERE r.id = l.rocket_id), '') || ' ' ||
+                    coalesce((SELECT p.name FROM launch_pads p WHERE p.id = l.launch_pad_id), '')), 'B')
+            || setweight(to_tsvector(CAST(:config AS regconfig),
+                    coalesce((SELECT string_agg(concat_ws(' ', pl.name, pl.customer), ' ')
+                              FROM payloads pl WHERE pl.launch_id = l.id), '')), 'C')
+            || setweight(to_tsvector(CAST(:config AS regconfig), coalesce(l.details, '')), 'D')
+            """;
+
+    /*
+     * La sous-requête classe et pagine sur l'index GIN; ts_headline (coûteux)
+     * n'est calculé que pour les lignes de la page
+     */
+    private static final String SEARCH = """
+            SELECT l.id, l.name, l.date_utc, l.success,
+                   r.name AS rocket_name, p.name AS launch_pad_name, hit.rank,
+                   ts_headline(CAST(:config AS regconfig),
+                           %s, hit.query, :headlineOptions) AS headline
+            FROM (
+                SELECT l.id, l.date_utc, ts_rank_cd(l.search_vector, q.query) AS rank, q.query
+                FROM launches l, websearch_to_tsquery(CAST(:config AS regconfig), :query) AS q(query)
+                WHERE l.search_vector @@ q.query
+                ORDER BY rank DESC, l.date_utc DESC NULLS LAST, l.id DESC
+                LIMIT :limit OFFSET :offset
+            ) hit
+            JOIN launches l ON l.id = hit.id
+            LEFT JOIN rockets r ON r.id = l.rocket_id
+            LEFT JOIN launch_pads p ON p.id = l.launch_pad_id
+            ORDER BY hit.rank DESC, hit.date_utc DESC NULLS LAST, hit.id DESC
+            """.formatted(HEADLINE_SOURCE);
+
+    private static final String COUNT = """
+            SELECT count(*) FROM launches l
+            WHERE l.search_vector @@ websearch_to_tsquery(CAST(:config AS regconfig), :query)
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<LaunchSearchHit> search(String query, String textConfig, long offset, int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(SEARCH)
+                .setParameter("config", textConfig)
+                .setParameter("query", query)
+                .setParameter("headlineOptions", HEADLINE_OPTIONS)
+                .setParameter("limit", limit)
+                .setParameter("offset", offset)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", String.class)
+                .addScalar("name", String.class)
+                .addScalar("date_utc", Instant.class)
+                .addScalar("success", Boolean.class)
+                .addScalar("rocket_name", String.class)
+                .addScalar("launch_pad_name", String.class)
+                .addScalar("rank", Double.class)
+                .addScalar("headline", String.class)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new LaunchSearchHit(
+                        (String) row[0],
+                        (String) row[1],
+                        (Instant) row[2],
+                        (Boolean) row[3],
+                        (String) row[4],
+                        (String) row[5],
+                        (Double) row[6],
+                        (String) row[7]))
+                .toList();
+    }
+
+    @Override
+    public long countSearch(String query, String textConfig) {
+        Number count = (Number) entityManager.createNativeQuery(COUNT)
+                .setParameter("config", textConfig)
+                .setParameter("query", query)
+                .getSingleResult();
+        return count.longValue();
+    }
+
+    @Override
+    public int refreshSearchVectors(Collection<String> launchIds, String textConfig) {
+        if (launchIds.isEmpty()) {
+            return 0;
+        }
+        return entityManager.createNativeQuery(
+                        "UPDATE launches l SET search_vector = " + SEARCH_VECTOR + " WHERE l.id IN (:ids)")
+                .setParameter("config", textConfig)
+                .setParameter("ids", launchIds)
+                .executeUpdate();
+    }
+
+    @Override
+    public int refreshMissingSearchVectors(String textConfig) {
+        return entityManager.createNativeQuery(
+                        "UPDATE launches l SET search_vector = " + SEARCH_VECTOR + " WHERE l.search_vector IS NULL")
+                .setParameter("config", textConfig)
+                .executeUpdate();
+    }
+}
@@ -44,14 +44,24 @@ public interface PayloadRepository extends JpaRepository<Payload, String> {
     List<Payload> findByCustomer(String customer);
 
     /**
-     * Recherche des payloads par nom partiel
+     * Recherche de payloads par nom, tolérante aux fautes de frappe
+     * Similarité trigramme (pg_trgm, seuil de la transaction) ou fragment
+     * contenu dans le nom; les deux conditions utilisent l'index GIN
+     * trigramme du nom. Résultats triés par similarité décroissante.
      *
-     * @param name     Fragment du nom
-     * @param pageable Configuration de pagination
+     * @param name     Texte recherché
+     * @param pattern  Motif ILIKE du fragment (ex: "%falcon%", jokers échappés)
+     * @param pageable Pagination (sans tri: l'ordre est fixé par la requête)
      * @return Page de payloads correspondants
      */
-    @Query("SELECT p FROM Payload p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))")
-    Page<Payload> searchByName(@Param("name") String name, Pageable pageable);
+    @Query(value = """
+            SELECT p.* FROM payloads p
+            WHERE p.name % :name OR p.name ILIKE :pattern
+            ORDER BY similarity(p.name, :name) DESC, p.name
+            """,
+            countQuery = "SELECT count(*) FROM payloads p WHERE p.name % :name OR p.name ILIKE :pattern",
+            nativeQuery = true)
+    Page<Payload> searchByName(@Param("name") String name, @Param("pattern") String pattern, Pageable pageable);
 
     /**
      * Trouve les payloads dans une plage de masse
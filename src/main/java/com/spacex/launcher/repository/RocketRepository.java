@@ -3,14 +3,20 @@ package com.spacex.launcher.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.spacex.launcher.cache.ReferenceDataCache;
 import com.spacex.launcher.model.Rocket;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository pour l'entité Rocket
  *
@@ -19,6 +25,18 @@ import com.spacex.launcher.model.Rocket;
 @Repository
 public interface RocketRepository extends JpaRepository<Rocket, String> {
 
+    /**
+     * Page de fusées (catalogue sans recherche)
+     * Résultats en cache de requêtes Hibernate, invalidés par toute écriture
+     * sur la table et à la fin de chaque synchronisation
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.QUERY_REGION)
+    })
+    Page<Rocket> findAll(Pageable pageable);
+
     /**
      * Trouve une fusée par son nom (insensible à la casse)
      *
@@ -65,14 +83,24 @@ public interface RocketRepository extends JpaRepository<Rocket, String> {
     long countByActiveTrue();
 
     /**
-     * Recherche de fusées par nom partiel (LIKE)
+     * Recherche de fusées par nom, tolérante aux fautes de frappe
+     * Similarité trigramme (pg_trgm, seuil de la transaction) ou fragment
+     * contenu dans le nom; les deux conditions utilisent l'index GIN
+     * trigramme du nom. Résultats triés par similarité décroissante.
      *
-     * @param name     Fragment du nom
-     * @param pageable Configuration de pagination
+     * @param name     Texte recherché
+     * @param pattern  Motif ILIKE du fragment (ex: "%falcon%", jokers échappés)
+     * @param pageable Pagination (sans tri: l'ordre est fixé par la requête)
      * @return Page de fusées correspondantes
      */
-    @Query("SELECT r FROM Rocket r WHERE LOWER(r.name) LIKE LOWER(CONCAT('%', :name, '%'))")
-    Page<Rocket> searchByName(String name, Pageable pageable);
+    @Query(value = """
+            SELECT r.* FROM rockets r
+            WHERE r.name % :name OR r.name ILIKE :pattern
+            ORDER BY similarity(r.name, :name) DESC, r.name
+            """,
+            countQuery = "SELECT count(*) FROM rockets r WHERE r.name % :name OR r.name ILIKE :pattern",
+            nativeQuery = true)
+    Page<Rocket> searchByName(@Param("name") String name, @Param("pattern") String pattern, Pageable pageable);
 
     /**
      * Vérifie si une fusée existe par son nom
@@ -0,0 +1,34 @@
+package com.spacex.launcher.repository;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Seuil de similarité de l'opérateur pg_trgm "%" (PostgreSQL)
+ *
+ * Le seuil est un paramètre de session: il est fixé pour la transaction
+ * courante uniquement (set_config local) et ne fuit pas vers les autres
+ * utilisateurs de la connexion du pool.
+ */
+@Component
+public class TrigramSimilarity {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Fixe le seuil pour la transaction courante
+     *
+     * @param threshold Similarité minimale (0 à 1)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void setThreshold(double threshold) {
+        entityManager.createNativeQuery("SELECT set_config('pg_trgm.similarity_threshold', :threshold, true)")
+                .setParameter("threshold", Double.toString(threshold))
+                .getSingleResult();
+    }
+}
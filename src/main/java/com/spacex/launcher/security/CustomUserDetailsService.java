@@ -9,6 +9,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.spacex.launcher.model.Role;
 import com.spacex.launcher.model.Userx;
@@ -40,11 +41,15 @@ public class CustomUserDetailsService implements UserDetailsService {
      *
      * ✅ OPTIMISATION: 1 seule requête SQL avec JOIN FETCH des rôles
      *
+     * Transaction en écriture: lu sur le primaire, un rôle retiré ou un compte
+     * créé est pris en compte sans attendre la réplication
+     *
      * @param identifier Username ou email
      * @return UserDetails avec authorities
      * @throws UsernameNotFoundException si l'utilisateur n'existe pas
      */
     @Override
+    @Transactional
     public UserDetails loadUserByUsername(String identifier) throws UsernameNotFoundException {
         logger.debug("Loading user by identifier: '{}'", identifier);
 
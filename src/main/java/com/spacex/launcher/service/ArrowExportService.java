@@ -0,0 +1,190 @@
+package com.spacex.launcher.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spacex.launcher.arrow.ArrowColumn;
+import com.spacex.launcher.arrow.ArrowTableWriter;
+import com.spacex.launcher.dto.LaunchDetail;
+import com.spacex.launcher.dto.LaunchPayloadRow;
+import com.spacex.launcher.model.LaunchPad;
+import com.spacex.launcher.model.Rocket;
+import com.spacex.launcher.repository.LaunchPadRepository;
+import com.spacex.launcher.repository.LaunchRepository;
+import com.spacex.launcher.repository.PayloadRepository;
+import com.spacex.launcher.repository.RocketRepository;
+
+/**
+ * Export colonnaire (Arrow IPC) des tables pour l'analyse hors ligne
+ *
+ * Un fichier par table, chargé tel quel par pandas/polars/pyarrow: colonnes
+ * typées (horodatages UTC, booléens, flottants), noms et catégories
+ * encodés par dictionnaire, buffers compressés en ZSTD.
+ *
+ * Lancements et payloads sont lus par curseur (lots de spacex.export.fetch-size
+ * lignes, comme l'export NDJSON/CSV) et écrits par lots; fusées et
+ * sites (quelques lignes) fournissent aussi les dictionnaires des
+ * lancements. Transaction REPEATABLE READ: dictionnaires et lignes viennent
+ * du même instantané.
+ */
+@Service
+public class ArrowExportService {
+    private static final Logger logger = LoggerFactory.getLogger(ArrowExportService.class);
+
+    private final LaunchRepository launchRepository;
+    private final RocketRepository rocketRepository;
+    private final LaunchPadRepository launchPadRepository;
+    private final PayloadRepository payloadRepository;
+    private final int batchSize;
+    private final int fetchSize;
+
+    /**
+     * Tables exportables
+     */
+    public enum Dataset {
+        LAUNCHES("launches"),
+        PAYLOADS("payloads"),
+        ROCKETS("rockets"),
+        LAUNCH_PADS("launchpads");
+
+        private final String path;
+
+        Dataset(String path) {
+            this.path = path;
+        }
+
+        /** Segment d'URL et nom du fichier */
+        public String path() {
+            return path;
+        }
+
+        /**
+         * @throws IllegalArgumentException si la table est inconnue
+         */
+        public static Dataset fromPath(String path) {
+            for (Dataset dataset : values()) {
+                if (dataset.path.equalsIgnoreCase(path)) {
+                    return dataset;
+                }
+            }
+            throw new IllegalArgumentException("Unknown dataset: " + path);
+        }
+    }
+
+    public ArrowExportService(
+            LaunchRepository launchRepository,
+            RocketRepository rocketRepository,
+            LaunchPadRepository launchPadRepository,
+            PayloadRepository payloadRepository,
+            @Value("${spacex.export.arrow.batch-size:4096}") int batchSize,
+            @Value("${spacex.export.fetch-size:1000}") int fetchSize) {
+        this.launchRepository = launchRepository;
+        this.rocketRepository = rocketRepository;
+        this.launchPadRepository = launchPadRepository;
+        this.payloadRepository = payloadRepository;
+        this.batchSize = batchSize;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Écrit une table au format fichier Arrow IPC; le flux est fermé
+     *
+     * @return Nombre de lignes écrites
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long export(Dataset dataset, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        long rows = switch (dataset) {
+            case LAUNCHES -> exportLaunches(out);
+            case PAYLOADS -> exportPayloads(out);
+            case ROCKETS -> new ArrowTableWriter<>(rocketColumns(), batchSize)
+                    .write(rocketRepository.findAll(Sort.by("name")).iterator(), out);
+            case LAUNCH_PADS -> new ArrowTableWriter<>(launchPadColumns(), batchSize)
+                    .write(launchPadRepository.findAll(Sort.by("name")).iterator(), out);
+        };
+
+        logger.info("Exported {} {} rows as Arrow IPC in {} ms",
+                rows, dataset.path(), (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    private long exportLaunches(OutputStream out) throws IOException {
+        List<Rocket> rockets = rocketRepository.findAll();
+        List<LaunchPad> launchPads = launchPadRepository.findAll();
+
+        List<ArrowColumn<LaunchDetail>> columns = List.of(
+                ArrowColumn.utf8("id", LaunchDetail::id),
+                ArrowColumn.utf8("name", LaunchDetail::name),
+                ArrowColumn.timestamp("date_utc", LaunchDetail::dateUtc),
+                ArrowColumn.bool("success", LaunchDetail::success),
+                ArrowColumn.utf8("details", LaunchDetail::details),
+                ArrowColumn.dictionary("rocket_id", LaunchDetail::rocketId, values(rockets, Rocket::getId)),
+                ArrowColumn.dictionary("rocket_name", LaunchDetail::rocketName, values(rockets, Rocket::getName)),
+                ArrowColumn.dictionary("rocket_type", LaunchDetail::rocketType, values(rockets, Rocket::getType)),
+                ArrowColumn.dictionary("launch_pad_id", LaunchDetail::launchPadId,
+                        values(launchPads, LaunchPad::getId)),
+                ArrowColumn.dictionary("launch_pad_name", LaunchDetail::launchPadName,
+                        values(launchPads, LaunchPad::getName)),
+                ArrowColumn.dictionary("launch_pad_locality", LaunchDetail::launchPadLocality,
+                        values(launchPads, LaunchPad::getLocality)),
+                ArrowColumn.dictionary("launch_pad_region", LaunchDetail::launchPadRegion,
+                        values(launchPads, LaunchPad::getRegion)));
+
+        try (Stream<LaunchDetail> launches = launchRepository.streamAllDetails(fetchSize)) {
+            return new ArrowTableWriter<>(columns, batchSize).write(launches.iterator(), out);
+        }
+    }
+
+    private long exportPayloads(OutputStream out) throws IOException {
+        List<ArrowColumn<LaunchPayloadRow>> columns = List.of(
+                ArrowColumn.utf8("launch_id", LaunchPayloadRow::launchId),
+                ArrowColumn.utf8("id", LaunchPayloadRow::id),
+                ArrowColumn.utf8("name", LaunchPayloadRow::name),
+                ArrowColumn.dictionary("type", LaunchPayloadRow::type, payloadRepository.findAllDistinctTypes()),
+                ArrowColumn.float64("mass_kg", LaunchPayloadRow::massKg),
+                ArrowColumn.dictionary("orbit", LaunchPayloadRow::orbit, payloadRepository.findAllDistinctOrbits()),
+                ArrowColumn.dictionary("customer", LaunchPayloadRow::customer,
+                        payloadRepository.findAllDistinctCustomers()));
+
+        try (Stream<LaunchPayloadRow> payloads = launchRepository.streamAllPayloads(fetchSize)) {
+            return new ArrowTableWriter<>(columns, batchSize).write(payloads.iterator(), out);
+        }
+    }
+
+    private static List<ArrowColumn<Rocket>> rocketColumns() {
+        return List.of(
+                ArrowColumn.utf8("id", Rocket::getId),
+                ArrowColumn.utf8("name", Rocket::getName),
+                ArrowColumn.utf8("type", Rocket::getType),
+                ArrowColumn.bool("active", Rocket::isActive),
+                ArrowColumn.utf8("country", Rocket::getCountry),
+                ArrowColumn.utf8("company", Rocket::getCompany));
+    }
+
+    private static List<ArrowColumn<LaunchPad>> launchPadColumns() {
+        return List.of(
+                ArrowColumn.utf8("id", LaunchPad::getId),
+                ArrowColumn.utf8("name", LaunchPad::getName),
+                ArrowColumn.utf8("locality", LaunchPad::getLocality),
+                ArrowColumn.utf8("region", LaunchPad::getRegion),
+                ArrowColumn.float64("latitude", LaunchPad::getLatitude),
+                ArrowColumn.float64("longitude", LaunchPad::getLongitude));
+    }
+
+    private static <T> Collection<String> values(List<T> rows, Function<T, String> getter) {
+        return rows.stream().map(getter).filter(Objects::nonNull).toList();
+    }
+}
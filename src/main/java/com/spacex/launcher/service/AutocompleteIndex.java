@@ -0,0 +1,256 @@
+package com.spacex.launcher.service;
+
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.spacex.launcher.dto.AutocompleteSuggestion;
+
+/**
+ * Index d'autocomplétion en mémoire (trie immuable)
+ *
+ * Chaque terme est indexé sur son texte complet et sur chaque début de mot
+ * ("Falcon 9" est trouvé par "fal" et par "9"). Les clés sont normalisées:
+ * minuscules, sans accents, espaces consécutifs réduits.
+ *
+ * Chaque nœud porte ses K meilleures suggestions, calculées à la
+ * construction: une recherche parcourt le préfixe (recherche binaire dans
+ * les enfants) et renvoie cette liste telle quelle, sans copie ni tri.
+ *
+ * Classement: popularité (nombre de lancements) puis récence.
+ */
+public final class AutocompleteIndex {
+
+    public static final AutocompleteIndex EMPTY = new AutocompleteIndex(-1, new Node(), 0, 0);
+
+    private final long version;
+    private final Node root;
+    private final int termCount;
+    private final int nodeCount;
+
+    private AutocompleteIndex(long version, Node root, int termCount, int nodeCount) {
+        this.version = version;
+        this.root = root;
+        this.termCount = termCount;
+        this.nodeCount = nodeCount;
+    }
+
+    /**
+     * Terme à indexer
+     *
+     * @param suggestion Suggestion renvoyée
+     * @param popularity Nombre de lancements associés
+     * @param lastUsed   Date du lancement associé le plus récent (peut être null)
+     */
+    public record Entry(AutocompleteSuggestion suggestion, long popularity, Instant lastUsed) {
+    }
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong(Entry::popularity).reversed()
+            .thenComparing(Entry::lastUsed, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(entry -> entry.suggestion().text());
+
+    /**
+     * Version du jeu de données indexée (-1 pour l'index vide)
+     */
+    public long version() {
+        return version;
+    }
+
+    public int termCount() {
+        return termCount;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Meilleures suggestions commençant par le préfixe
+     *
+     * @param prefix Préfixe saisi (casse, accents et espaces indifférents)
+     * @param limit  Nombre maximum de suggestions (au plus K)
+     * @return Liste partagée non modifiable (vide si aucun terme)
+     */
+    public List<AutocompleteSuggestion> lookup(CharSequence prefix, int limit) {
+        Node node = root;
+        boolean pendingSpace = false;
+        boolean started = false;
+
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            char c = prefix.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = started;
+                continue;
+            }
+            if (pendingSpace) {
+                node = node.child(' ');
+                pendingSpace = false;
+                if (node == null) {
+                    break;
+                }
+            }
+            node = node.child(fold(c));
+            started = true;
+        }
+
+        if (node == null || !started || limit <= 0) {
+            return List.of();
+        }
+        if (pendingSpace) {
+            // Mot terminé: on ne garde que les termes ayant un mot suivant
+            Node next = node.child(' ');
+            node = next != null ? next : node;
+        }
+        return node.top.size() <= limit ? node.top : node.top.subList(0, limit);
+    }
+
+    /**
+     * Construit l'index
+     *
+     * @param version Version du jeu de données indexée
+     * @param entries Termes à indexer
+     * @param topK    Nombre de suggestions conservées par nœud
+     */
+    public static AutocompleteIndex build(long version, List<Entry> entries, int topK) {
+        BuildNode root = new BuildNode();
+        int termCount = 0;
+
+        for (Entry entry : entries) {
+            String key = normalize(entry.suggestion().text());
+            if (key.isEmpty()) {
+                continue;
+            }
+            termCount++;
+            for (int start = 0; start < key.length(); start++) {
+                if (start == 0 || key.charAt(start - 1) == ' ') {
+                    root.insert(key, start, entry);
+                }
+            }
+        }
+
+        int[] nodeCount = {0};
+        Node frozen = root.freeze(topK, nodeCount);
+        return new AutocompleteIndex(version, frozen, termCount, nodeCount[0]);
+    }
+
+    /**
+     * Normalisation des clés: minuscules, sans accents, espaces réduits
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = !key.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                key.append(' ');
+                pendingSpace = false;
+            }
+            key.append(fold(c));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Caractère normalisé: ASCII sans allocation, décomposition Unicode sinon
+     */
+    private static char fold(char c) {
+        if (c < 128) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+        return Character.toLowerCase(decomposed.charAt(0));
+    }
+
+    /**
+     * Nœud immuable: enfants triés par caractère
+     */
+    private static final class Node {
+        private final char[] labels;
+        private final Node[] children;
+        private final List<AutocompleteSuggestion> top;
+
+        private Node() {
+            this(new char[0], new Node[0], List.of());
+        }
+
+        private Node(char[] labels, Node[] children, List<AutocompleteSuggestion> top) {
+            this.labels = labels;
+            this.children = children;
+            this.top = top;
+        }
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    /**
+     * Nœud mutable utilisé pendant la construction
+     */
+    private static final class BuildNode {
+        private final Map<Character, BuildNode> children = new TreeMap<>();
+        private final List<Entry> terminals = new ArrayList<>(1);
+        private List<Entry> best = List.of();
+
+        private void insert(String key, int start, Entry entry) {
+            BuildNode node = this;
+            for (int i = start; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), label -> new BuildNode());
+            }
+            node.terminals.add(entry);
+        }
+
+        /**
+         * Construit le nœud immuable; son top-K fusionne ses termes et les
+         * top-K de ses enfants (un terme indexé sur plusieurs mots n'y figure
+         * qu'une fois)
+         */
+        private Node freeze(int topK, int[] nodeCount) {
+            nodeCount[0]++;
+            char[] labels = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            List<Entry> candidates = new ArrayList<>(terminals);
+
+            int i = 0;
+            for (Map.Entry<Character, BuildNode> child : children.entrySet()) {
+                labels[i] = child.getKey();
+                frozen[i] = child.getValue().freeze(topK, nodeCount);
+                candidates.addAll(child.getValue().best);
+                i++;
+            }
+
+            candidates.sort(RANKING);
+            Set<AutocompleteSuggestion> seen = new HashSet<>();
+            List<Entry> kept = new ArrayList<>(topK);
+            for (Entry candidate : candidates) {
+                if (kept.size() == topK) {
+                    break;
+                }
+                if (seen.add(candidate.suggestion())) {
+                    kept.add(candidate);
+                }
+            }
+            best = kept;
+
+            // Libère les structures de construction au fil de l'eau
+            children.clear();
+            return new Node(labels, frozen, kept.stream().map(Entry::suggestion).toList());
+        }
+    }
+}
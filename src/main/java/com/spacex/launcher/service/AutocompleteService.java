@@ -0,0 +1,156 @@
+package com.spacex.launcher.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.spacex.launcher.datasource.ReplicaRoutingDataSource;
+import com.spacex.launcher.dto.AutocompleteSuggestion;
+import com.spacex.launcher.dto.AutocompleteSuggestion.Type;
+import com.spacex.launcher.dto.AutocompleteTerm;
+import com.spacex.launcher.event.LaunchDataChangedEvent;
+import com.spacex.launcher.repository.LaunchRepository;
+
+/**
+ * Autocomplétion de la barre de recherche
+ *
+ * Les suggestions (noms de lancements, fusées, sites, clients) sont servies
+ * depuis un index en mémoire: aucune requête SQL par frappe. L'index est
+ * reconstruit après chaque synchronisation puis remplacé atomiquement
+ * (référence volatile); les lectures en cours terminent sur l'ancien.
+ *
+ * Si une autre instance a publié une version plus récente, la reconstruction
+ * est lancée en arrière-plan et l'index courant reste servi en attendant.
+ */
+@Service
+public class AutocompleteService {
+    private static final Logger logger = LoggerFactory.getLogger(AutocompleteService.class);
+
+    private final LaunchRepository launchRepository;
+    private final ChangeFeedService changeFeedService;
+    private final TaskExecutor taskExecutor;
+    private final int topK;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile AutocompleteIndex index = AutocompleteIndex.EMPTY;
+
+    public AutocompleteService(
+            LaunchRepository launchRepository,
+            ChangeFeedService changeFeedService,
+            TaskExecutor taskExecutor,
+            @Value("${spacex.autocomplete.top-k:10}") int topK) {
+        this.launchRepository = launchRepository;
+        this.changeFeedService = changeFeedService;
+        this.taskExecutor = taskExecutor;
+        this.topK = topK;
+    }
+
+    /**
+     * Nombre maximum de suggestions par requête
+     */
+    public int getTopK() {
+        return topK;
+    }
+
+    /**
+     * Meilleures suggestions pour un préfixe
+     *
+     * @param prefix Texte saisi
+     * @param limit  Nombre maximum de suggestions (au plus top-k)
+     */
+    public List<AutocompleteSuggestion> suggest(String prefix, int limit) {
+        AutocompleteIndex current = index;
+        if (current.version() < changeFeedService.currentVersion()) {
+            rebuildInBackground();
+        }
+        return current.lookup(prefix, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (index == AutocompleteIndex.EMPTY) {
+            rebuild(changeFeedService.currentVersion());
+        }
+    }
+
+    /**
+     * Exécuté de façon synchrone avant la publication de la nouvelle version
+     */
+    @EventListener
+    public void onLaunchDataChanged(LaunchDataChangedEvent event) {
+        rebuild(event.version());
+    }
+
+    /**
+     * Sur l'exécuteur de tâches de Spring (spring.task.execution), pas sur
+     * le pool commun: la reconstruction bloque sur JDBC
+     */
+    private void rebuildInBackground() {
+        if (rebuilding.compareAndSet(false, true)) {
+            try {
+                taskExecutor.execute(() -> {
+                    try {
+                        rebuild(changeFeedService.currentVersion());
+                    } finally {
+                        rebuilding.set(false);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // Tâche refusée: nouvelle tentative à la requête suivante
+                rebuilding.set(false);
+                logger.warn("Autocomplete index rebuild not scheduled: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reconstruit l'index et le publie
+     * Termes lus sur le primaire: l'index est étiqueté avec la version qui
+     * vient d'être commitée et n'est plus reconstruit avant la suivante
+     */
+    private synchronized void rebuild(long version) {
+        if (version <= index.version()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            List<AutocompleteIndex.Entry> entries = ReplicaRoutingDataSource.onPrimary(this::loadEntries);
+
+            AutocompleteIndex rebuilt = AutocompleteIndex.build(version, entries, topK);
+            index = rebuilt;
+
+            logger.info("Autocomplete index rebuilt for version {} in {} ms ({} terms, {} nodes)",
+                    version, (System.nanoTime() - start) / 1_000_000, rebuilt.termCount(), rebuilt.nodeCount());
+        } catch (Exception e) {
+            // L'index précédent reste servi
+            logger.warn("Autocomplete index rebuild failed for version {}: {}", version, e.getMessage());
+        }
+    }
+
+    private List<AutocompleteIndex.Entry> loadEntries() {
+        List<AutocompleteIndex.Entry> entries = new ArrayList<>();
+        addEntries(entries, launchRepository.findLaunchNameTerms(), Type.LAUNCH);
+        addEntries(entries, launchRepository.findRocketNameTerms(), Type.ROCKET);
+        addEntries(entries, launchRepository.findLaunchPadNameTerms(), Type.LAUNCH_PAD);
+        addEntries(entries, launchRepository.findCustomerTerms(), Type.CUSTOMER);
+        return entries;
+    }
+
+    private static void addEntries(List<AutocompleteIndex.Entry> entries, List<AutocompleteTerm> terms, Type type) {
+        for (AutocompleteTerm term : terms) {
+            entries.add(new AutocompleteIndex.Entry(
+                    new AutocompleteSuggestion(term.text(), type, term.id()),
+                    term.popularity(),
+                    term.lastUsed()));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.spacex.launcher.service;
+
+import java.time.Year;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.spacex.launcher.cache.CacheTagIndex;
+import com.spacex.launcher.datasource.ReplicaRoutingDataSource;
+import com.spacex.launcher.event.LaunchDataChangedEvent;
+
+/**
+ * Préchauffage des caches après une synchronisation
+ *
+ * Exécuté de façon synchrone avant la publication de la nouvelle version:
+ * seules les entrées portant un tag touché par la synchronisation sont
+ * invalidées, puis les KPIs, stats annuelles et premières pages des filtres
+ * courants sont recalculés (les entrées encore valides sont de simples hits).
+ *
+ * Les appels passent par le proxy de LaunchService: les requêtes concurrentes
+ * sur une clé en cours de calcul attendent ce résultat au lieu d'interroger
+ * la base. Lectures sur le primaire: un réplica en retard remettrait en cache
+ * les données d'avant la synchronisation.
+ */
+@Component
+public class CachePrewarmer {
+    private static final Logger logger = LoggerFactory.getLogger(CachePrewarmer.class);
+
+    /** Pagination par défaut de GET /dashboard/launches */
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "dateUtc");
+
+    private final LaunchService launchService;
+    private final CacheTagIndex cacheTagIndex;
+
+    public CachePrewarmer(LaunchService launchService, CacheTagIndex cacheTagIndex) {
+        this.launchService = launchService;
+        this.cacheTagIndex = cacheTagIndex;
+    }
+
+    @EventListener
+    public void onLaunchDataChanged(LaunchDataChangedEvent event) {
+        long start = System.nanoTime();
+
+        int invalidated = cacheTagIndex.invalidate(event.touchedTags());
+
+        try {
+            ReplicaRoutingDataSource.onPrimary(this::prewarm);
+        } catch (Exception e) {
+            // Les caches se rempliront à la demande
+            logger.warn("Cache prewarming failed for version {}: {}", event.version(), e.getMessage());
+            return;
+        }
+
+        logger.info("Caches prewarmed for version {} in {} ms ({} entries invalidated for {} tags)",
+                event.version(), (System.nanoTime() - start) / 1_000_000, invalidated, event.touchedTags().size());
+    }
+
+    private void prewarm() {
+        launchService.getGlobalStats();
+        launchService.getYearlyStats();
+
+        int currentYear = Year.now().getValue();
+        for (int page = 0; page < launchService.getCachedPageCount(); page++) {
+            Pageable pageable = PageRequest.of(page, DEFAULT_PAGE_SIZE, DEFAULT_SORT);
+            launchService.getAllLaunches(pageable);
+            launchService.getLaunchesByStatus(true, pageable);
+            launchService.getLaunchesByStatus(false, pageable);
+            launchService.getLaunchesByYear(currentYear, pageable);
+        }
+    }
+}
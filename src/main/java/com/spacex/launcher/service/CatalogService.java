@@ -0,0 +1,165 @@
+package com.spacex.launcher.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spacex.launcher.dto.CatalogPage;
+import com.spacex.launcher.dto.LaunchPadSummary;
+import com.spacex.launcher.dto.PayloadSummary;
+import com.spacex.launcher.dto.RocketSummary;
+import com.spacex.launcher.model.LaunchPad;
+import com.spacex.launcher.model.Payload;
+import com.spacex.launcher.model.Rocket;
+import com.spacex.launcher.repository.LaunchPadRepository;
+import com.spacex.launcher.repository.PayloadRepository;
+import com.spacex.launcher.repository.RocketRepository;
+import com.spacex.launcher.repository.TrigramSimilarity;
+
+/**
+ * Listes du catalogue (fusées, sites de lancement, payloads)
+ *
+ * Sans texte recherché: liste triée par nom. Avec: recherche approchée par
+ * nom (similarité trigramme pg_trgm), le seuil de similarité de chaque liste
+ * étant configurable.
+ */
+@Service
+public class CatalogService {
+    private static final Logger logger = LoggerFactory.getLogger(CatalogService.class);
+
+    private static final Sort BY_NAME = Sort.by("name", "id");
+
+    private final RocketRepository rocketRepository;
+    private final LaunchPadRepository launchPadRepository;
+    private final PayloadRepository payloadRepository;
+    private final TrigramSimilarity trigramSimilarity;
+    private final double rocketThreshold;
+    private final double launchPadThreshold;
+    private final double payloadThreshold;
+
+    public CatalogService(
+            RocketRepository rocketRepository,
+            LaunchPadRepository launchPadRepository,
+            PayloadRepository payloadRepository,
+            TrigramSimilarity trigramSimilarity,
+            @Value("${spacex.search.similarity.rockets:0.3}") double rocketThreshold,
+            @Value("${spacex.search.similarity.launchpads:0.3}") double launchPadThreshold,
+            @Value("${spacex.search.similarity.payloads:0.3}") double payloadThreshold) {
+        this.rocketRepository = rocketRepository;
+        this.launchPadRepository = launchPadRepository;
+        this.payloadRepository = payloadRepository;
+        this.trigramSimilarity = trigramSimilarity;
+        this.rocketThreshold = rocketThreshold;
+        this.launchPadThreshold = launchPadThreshold;
+        this.payloadThreshold = payloadThreshold;
+    }
+
+    /**
+     * Fusées, filtrées par nom approché si query est renseigné
+     */
+    @Transactional(readOnly = true)
+    public CatalogPage<RocketSummary> findRockets(String query, int page, int size) {
+        logger.debug("Fetching rockets (query='{}', page={})", query, page);
+        if (query == null) {
+            return CatalogPage.of(rocketRepository.findAll(PageRequest.of(page, size, BY_NAME)),
+                    CatalogService::toSummary);
+        }
+        trigramSimilarity.setThreshold(rocketThreshold);
+        return CatalogPage.of(rocketRepository.searchByName(query, containsPattern(query), PageRequest.of(page, size)),
+                CatalogService::toSummary);
+    }
+
+    /**
+     * Sites de lancement, filtrés par nom approché si query est renseigné
+     */
+    @Transactional(readOnly = true)
+    public CatalogPage<LaunchPadSummary> findLaunchPads(String query, int page, int size) {
+        logger.debug("Fetching launchpads (query='{}', page={})", query, page);
+        if (query == null) {
+            return CatalogPage.of(launchPadRepository.findAll(PageRequest.of(page, size, BY_NAME)),
+                    CatalogService::toSummary);
+        }
+        trigramSimilarity.setThreshold(launchPadThreshold);
+        return CatalogPage.of(
+                launchPadRepository.searchByName(query, containsPattern(query), PageRequest.of(page, size)),
+                CatalogService::toSummary);
+    }
+
+    /**
+     * Payloads, filtrés par nom approché si query est renseigné
+     */
+    @Transactional(readOnly = true)
+    public CatalogPage<PayloadSummary> findPayloads(String query, int page, int size) {
+        logger.debug("Fetching payloads (query='{}', page={})", query, page);
+        if (query == null) {
+            return CatalogPage.of(payloadRepository.findAll(PageRequest.of(page, size, BY_NAME)),
+                    CatalogService::toSummary);
+        }
+        trigramSimilarity.setThreshold(payloadThreshold);
+        return CatalogPage.of(
+                payloadRepository.searchByName(query, containsPattern(query), PageRequest.of(page, size)),
+                CatalogService::toSummary);
+    }
+
+    /**
+     * Fusées par ID en une requête (résolution groupée, GraphQL)
+     *
+     * @return Fusées indexées par ID; les IDs inconnus sont absents
+     */
+    @Transactional(readOnly = true)
+    public Map<String, RocketSummary> getRocketsByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return rocketRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Rocket::getId, CatalogService::toSummary));
+    }
+
+    /**
+     * Sites de lancement par ID en une requête (résolution groupée, GraphQL)
+     *
+     * @return Sites indexés par ID; les IDs inconnus sont absents
+     */
+    @Transactional(readOnly = true)
+    public Map<String, LaunchPadSummary> getLaunchPadsByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return launchPadRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(LaunchPad::getId, CatalogService::toSummary));
+    }
+
+    /**
+     * Motif ILIKE "contient", jokers de l'utilisateur échappés
+     */
+    static String containsPattern(String query) {
+        String escaped = query
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static RocketSummary toSummary(Rocket rocket) {
+        return new RocketSummary(rocket.getId(), rocket.getName(), rocket.getType(), rocket.isActive(),
+                rocket.getCountry(), rocket.getCompany());
+    }
+
+    private static LaunchPadSummary toSummary(LaunchPad launchPad) {
+        return new LaunchPadSummary(launchPad.getId(), launchPad.getName(), launchPad.getLocality(),
+                launchPad.getRegion(), launchPad.getLatitude(), launchPad.getLongitude());
+    }
+
+    private static PayloadSummary toSummary(Payload payload) {
+        return new PayloadSummary(payload.getId(), payload.getName(), payload.getType(), payload.getMassKg(),
+                payload.getOrbit(), payload.getCustomer());
+    }
+}
@@ -0,0 +1,280 @@
+package com.spacex.launcher.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.spacex.launcher.datasource.ReplicaRoutingDataSource;
+import com.spacex.launcher.dto.LaunchChangeEntry;
+import com.spacex.launcher.dto.LaunchChangeFeed;
+import com.spacex.launcher.dto.LaunchSummary;
+import com.spacex.launcher.model.ChangeType;
+import com.spacex.launcher.model.DatasetVersion;
+import com.spacex.launcher.model.LaunchChange;
+import com.spacex.launcher.repository.DatasetVersionRepository;
+import com.spacex.launcher.repository.LaunchChangeRepository;
+import com.spacex.launcher.repository.LaunchRepository;
+
+/**
+ * Versions du jeu de données et journal des changements de lancements
+ *
+ * Cycle d'une synchronisation:
+ * 1. openVersion() réserve un numéro de version croissant
+ * 2. recordChange() journalise chaque insertion / mise à jour / suppression
+ * 3. publish() rend la version visible et compacte le journal
+ *
+ * La version publiée est gardée en mémoire (ETags des réponses du tableau de
+ * bord) et relue en base à intervalle régulier pour suivre les publications
+ * des autres instances. Elle porte les dates des lancements à venir: l'ETag
+ * des KPIs suit le prochain lancement sans les calculer.
+ */
+@Service
+public class ChangeFeedService {
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    private final DatasetVersionRepository datasetVersionRepository;
+    private final LaunchChangeRepository launchChangeRepository;
+    private final LaunchRepository launchRepository;
+    private final long retainedVersions;
+    private final long versionRefreshNanos;
+
+    private volatile PublishedVersion published;
+    private volatile long publishedLoadedAt;
+
+    /**
+     * Version publiée et date de publication (null pour la version 0)
+     *
+     * @param upcomingLaunches Dates des lancements à venir à la publication,
+     *                         triées: le prochain lancement se déduit de
+     *                         l'heure sans requête
+     */
+    public record PublishedVersion(long version, Instant publishedAt, List<Instant> upcomingLaunches) {
+
+        public PublishedVersion(long version, Instant publishedAt) {
+            this(version, publishedAt, List.of());
+        }
+
+        /**
+         * Nombre de lancements à venir à la publication dont la date est
+         * passée: change exactement quand le prochain lancement change (même
+         * valeur sur toutes les instances)
+         */
+        public int launchesPassed(Instant now) {
+            int low = 0;
+            int high = upcomingLaunches.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (upcomingLaunches.get(middle).isAfter(now)) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+    }
+
+    public ChangeFeedService(
+            DatasetVersionRepository datasetVersionRepository,
+            LaunchChangeRepository launchChangeRepository,
+            LaunchRepository launchRepository,
+            @Value("${spacex.changes.retained-versions:50}") long retainedVersions,
+            @Value("${spacex.changes.version-refresh:5s}") Duration versionRefresh) {
+        this.datasetVersionRepository = datasetVersionRepository;
+        this.launchChangeRepository = launchChangeRepository;
+        this.launchRepository = launchRepository;
+        this.retainedVersions = retainedVersions;
+        this.versionRefreshNanos = versionRefresh.toNanos();
+    }
+
+    /**
+     * Version publiée courante (0 si aucune synchronisation n'a abouti)
+     */
+    public long currentVersion() {
+        return publishedVersion().version();
+    }
+
+    /**
+     * Version publiée courante, servie depuis la mémoire
+     * Relue en base au plus une fois par intervalle de rafraîchissement
+     */
+    public PublishedVersion publishedVersion() {
+        PublishedVersion snapshot = published;
+        if (snapshot == null || System.nanoTime() - publishedLoadedAt > versionRefreshNanos) {
+            snapshot = advance(loadPublishedVersion());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Réserve une nouvelle version pour une synchronisation
+     *
+     * @return Numéro de version (strictement croissant)
+     */
+    @Transactional
+    public long openVersion() {
+        DatasetVersion version = datasetVersionRepository.save(DatasetVersion.builder()
+                .createdAt(Instant.now())
+                .build());
+        logger.debug("Opened dataset version {}", version.getVersion());
+        return version.getVersion();
+    }
+
+    /**
+     * Ajoute une entrée au journal des changements
+     */
+    @Transactional
+    public void recordChange(long version, String launchId, ChangeType type) {
+        launchChangeRepository.save(LaunchChange.builder()
+                .version(version)
+                .launchId(launchId)
+                .changeType(type)
+                .changedAt(Instant.now())
+                .build());
+    }
+
+    /**
+     * Publie une version puis compacte le journal
+     *
+     * @param version     Version ouverte par openVersion()
+     * @param changeCount Nombre de changements journalisés
+     */
+    @Transactional
+    public void publish(long version, long changeCount) {
+        DatasetVersion datasetVersion = datasetVersionRepository.findById(version)
+                .orElseThrow(() -> new IllegalStateException("Unknown dataset version " + version));
+        datasetVersion.setPublishedAt(Instant.now());
+        datasetVersion.setChangeCount(changeCount);
+        compact(datasetVersion);
+        datasetVersionRepository.save(datasetVersion);
+
+        // Visible en mémoire (ETags) seulement une fois les données commitées
+        PublishedVersion publishedVersion = withUpcomingLaunches(version, datasetVersion.getPublishedAt());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    advance(publishedVersion);
+                }
+            });
+        } else {
+            advance(publishedVersion);
+        }
+        logger.info("Published dataset version {} ({} changes)", version, changeCount);
+    }
+
+    /**
+     * Compaction du journal:
+     * - les entrées remplacées par un changement plus récent sont supprimées
+     * (jamais renvoyées par le flux)
+     * - les suppressions plus anciennes que retainedVersions sont purgées et la
+     * version plancher est mémorisée
+     */
+    private void compact(DatasetVersion datasetVersion) {
+        long version = datasetVersion.getVersion();
+        int superseded = launchChangeRepository.deleteSupersededChanges(version);
+
+        long floor = version - retainedVersions;
+        int tombstones = 0;
+        if (floor > 0) {
+            tombstones = launchChangeRepository.deleteByTypeUpTo(ChangeType.DELETE, floor);
+            if (tombstones > 0) {
+                datasetVersion.setCompactedThrough(floor);
+            }
+        }
+
+        logger.debug("Change log compacted: {} superseded entries, {} tombstones removed",
+                superseded, tombstones);
+    }
+
+    /**
+     * Deltas depuis une version connue du client
+     * Un seul changement (le plus récent) est renvoyé par lancement
+     *
+     * Lu sur le primaire: un réplica en retard renverrait la version publiée
+     * sans tous ses changements, que le client ne redemanderait jamais
+     *
+     * @param since Dernière version vue par le client
+     * @return Flux de changements jusqu'à la version publiée courante
+     */
+    @Transactional(readOnly = true)
+    public LaunchChangeFeed getChangesSince(long since) {
+        return ReplicaRoutingDataSource.onPrimary(() -> loadChangesSince(since));
+    }
+
+    private LaunchChangeFeed loadChangesSince(long since) {
+        long current = advance(loadPublishedVersion()).version();
+
+        Long floor = datasetVersionRepository.findCompactionFloor();
+        if (since > current || (floor != null && since < floor)) {
+            logger.debug("Client version {} outside change log window (floor={}, current={})",
+                    since, floor, current);
+            return new LaunchChangeFeed(since, current, true, Collections.emptyList());
+        }
+
+        List<LaunchChange> changes = launchChangeRepository.findLatestChangesBetween(since, current);
+        if (changes.isEmpty()) {
+            return new LaunchChangeFeed(since, current, false, Collections.emptyList());
+        }
+
+        List<String> liveIds = changes.stream()
+                .filter(change -> change.getChangeType() != ChangeType.DELETE)
+                .map(LaunchChange::getLaunchId)
+                .collect(Collectors.toList());
+
+        Map<String, LaunchSummary> summaries = liveIds.isEmpty()
+                ? Collections.emptyMap()
+                : launchRepository.findSummariesByIds(liveIds).stream()
+                        .collect(Collectors.toMap(LaunchSummary::id, Function.identity()));
+
+        List<LaunchChangeEntry> entries = changes.stream()
+                .map(change -> new LaunchChangeEntry(
+                        change.getVersion(),
+                        change.getLaunchId(),
+                        change.getChangeType(),
+                        change.getChangedAt(),
+                        summaries.get(change.getLaunchId())))
+                .collect(Collectors.toList());
+
+        logger.debug("Change feed since {}: {} changes up to version {}", since, entries.size(), current);
+        return new LaunchChangeFeed(since, current, false, entries);
+    }
+
+    private synchronized PublishedVersion advance(PublishedVersion candidate) {
+        if (published == null || candidate.version() > published.version()) {
+            published = candidate;
+        }
+        publishedLoadedAt = System.nanoTime();
+        return published;
+    }
+
+    /**
+     * Dernière version publiée; les dates des lancements à venir ne sont
+     * relues que pour une version pas encore connue en mémoire
+     */
+    private PublishedVersion loadPublishedVersion() {
+        PublishedVersion known = published;
+        return datasetVersionRepository.findTopByPublishedAtIsNotNullOrderByVersionDesc()
+                .map(version -> known != null && known.version() == version.getVersion()
+                        ? known
+                        : withUpcomingLaunches(version.getVersion(), version.getPublishedAt()))
+                .orElse(new PublishedVersion(0, null));
+    }
+
+    private PublishedVersion withUpcomingLaunches(long version, Instant publishedAt) {
+        return new PublishedVersion(version, publishedAt,
+                List.copyOf(launchRepository.findLaunchDatesAfter(publishedAt)));
+    }
+}
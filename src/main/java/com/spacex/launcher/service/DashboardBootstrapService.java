@@ -0,0 +1,167 @@
+package com.spacex.launcher.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.spacex.launcher.config.WebConfig;
+import com.spacex.launcher.datasource.ReplicaRoutingDataSource;
+import com.spacex.launcher.dto.DashboardBootstrap;
+import com.spacex.launcher.dto.LaunchStats;
+
+/**
+ * Réponse de GET /dashboard/bootstrap, précalculée
+ *
+ * KPIs, stats annuelles et première page de lancements sont sérialisés une
+ * seule fois par version publiée du jeu de données, puis gardés en mémoire
+ * en JSON, CBOR et Smile, bruts et compressés en gzip: servir la réponse
+ * revient à copier des octets (Tomcat ne compresse pas une réponse à ETag
+ * fort).
+ *
+ * Le paquet est reconstruit à la première demande qui suit la publication
+ * d'une version (y compris par une autre instance), ou à celle qui suit la
+ * date du prochain lancement des KPIs; les données viennent des caches
+ * préchauffés par la synchronisation. Une seule reconstruction à la fois: les
+ * requêtes concurrentes attendent son résultat.
+ */
+@Service
+public class DashboardBootstrapService {
+    private static final Logger logger = LoggerFactory.getLogger(DashboardBootstrapService.class);
+
+    /** Première page de GET /dashboard/launches sans paramètres */
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "dateUtc"));
+
+    private final LaunchService launchService;
+    private final ChangeFeedService changeFeedService;
+    private final ObjectWriter jsonWriter;
+    private final ObjectWriter cborWriter;
+    private final ObjectWriter smileWriter;
+
+    private volatile Bundle bundle;
+
+    /**
+     * Réponse sérialisée pour une version du jeu de données
+     *
+     * @param version   Version publiée au moment du calcul
+     * @param kpis      KPIs sérialisés (prochain lancement)
+     * @param json      Corps JSON (UTF-8)
+     * @param gzip      Même corps compressé en gzip
+     * @param cbor      Corps CBOR
+     * @param cborGzip  Corps CBOR compressé en gzip
+     * @param smile     Corps Smile
+     * @param smileGzip Corps Smile compressé en gzip
+     */
+    public record Bundle(long version, LaunchStats kpis, byte[] json, byte[] gzip,
+            byte[] cbor, byte[] cborGzip, byte[] smile, byte[] smileGzip) {
+
+        /**
+         * Corps dans un format (JSON, CBOR ou Smile), compressé ou non
+         */
+        public byte[] body(MediaType format, boolean compressed) {
+            if (MediaType.APPLICATION_CBOR.equals(format)) {
+                return compressed ? cborGzip : cbor;
+            }
+            if (WebConfig.APPLICATION_SMILE.equals(format)) {
+                return compressed ? smileGzip : smile;
+            }
+            return compressed ? gzip : json;
+        }
+
+        /**
+         * Paquet servable: même version et prochain lancement encore à venir
+         */
+        boolean isCurrent(long currentVersion, Instant now) {
+            return version == currentVersion && !kpis.isNextLaunchPast(now);
+        }
+    }
+
+    public DashboardBootstrapService(
+            LaunchService launchService,
+            ChangeFeedService changeFeedService,
+            ObjectMapper objectMapper,
+            MappingJackson2CborHttpMessageConverter cborConverter,
+            MappingJackson2SmileHttpMessageConverter smileConverter) {
+        this.launchService = launchService;
+        this.changeFeedService = changeFeedService;
+        this.jsonWriter = objectMapper.writerFor(DashboardBootstrap.class);
+        this.cborWriter = cborConverter.getObjectMapper().writerFor(DashboardBootstrap.class);
+        this.smileWriter = smileConverter.getObjectMapper().writerFor(DashboardBootstrap.class);
+    }
+
+    /**
+     * Paquet de la version publiée courante, reconstruit si elle a changé ou
+     * si la date du prochain lancement est passée
+     */
+    public Bundle current() {
+        return current(changeFeedService.currentVersion());
+    }
+
+    /**
+     * Paquet d'une version publiée (celle de l'ETag de la réponse)
+     */
+    public Bundle current(long version) {
+        Bundle snapshot = bundle;
+        if (snapshot != null && snapshot.isCurrent(version, Instant.now())) {
+            return snapshot;
+        }
+        return rebuild(version);
+    }
+
+    private synchronized Bundle rebuild(long version) {
+        Bundle snapshot = bundle;
+        if (snapshot != null && snapshot.isCurrent(version, Instant.now())) {
+            return snapshot;
+        }
+
+        long start = System.nanoTime();
+        // Sur le primaire: le paquet reste servi tant que la version ne change pas
+        DashboardBootstrap bootstrap = ReplicaRoutingDataSource.onPrimary(() -> new DashboardBootstrap(
+                version,
+                launchService.getGlobalStats(),
+                launchService.getYearlyStats(),
+                launchService.getAllLaunches(FIRST_PAGE)));
+
+        byte[] json = serialize(jsonWriter, bootstrap);
+        byte[] cbor = serialize(cborWriter, bootstrap);
+        byte[] smile = serialize(smileWriter, bootstrap);
+        snapshot = new Bundle(version, bootstrap.kpis(), json, gzip(json), cbor, gzip(cbor), smile, gzip(smile));
+        bundle = snapshot;
+
+        logger.info("Dashboard bootstrap rebuilt for version {} in {} ms ({} bytes, {} gzipped)",
+                version, (System.nanoTime() - start) / 1_000_000, json.length, snapshot.gzip().length);
+        return snapshot;
+    }
+
+    private static byte[] serialize(ObjectWriter writer, DashboardBootstrap bootstrap) {
+        try {
+            return writer.writeValueAsBytes(bootstrap);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize dashboard bootstrap", e);
+        }
+    }
+
+    static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream compressed = new GZIPOutputStream(out)) {
+            compressed.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
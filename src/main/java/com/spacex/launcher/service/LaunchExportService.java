@@ -0,0 +1,157 @@
+package com.spacex.launcher.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.spacex.launcher.dto.LaunchFilter;
+import com.spacex.launcher.dto.LaunchSummary;
+import com.spacex.launcher.repository.LaunchRepository;
+
+/**
+ * Export complet des lancements (NDJSON ou CSV)
+ *
+ * Les lignes sont lues par un curseur JDBC côté serveur (lots de
+ * spacex.export.fetch-size lignes) et écrites au fil de l'eau dans le flux
+ * de sortie: la mémoire utilisée ne dépend pas du nombre de lancements.
+ * Pas d'OFFSET ni de COUNT, contrairement à la pagination.
+ */
+@Service
+public class LaunchExportService {
+    private static final Logger logger = LoggerFactory.getLogger(LaunchExportService.class);
+
+    private static final String CSV_HEADER = "id,name,dateUtc,success,rocketId,rocketName,launchPadId,launchPadName";
+
+    private final LaunchRepository launchRepository;
+    private final ObjectWriter summaryWriter;
+    private final int fetchSize;
+
+    /**
+     * Formats d'export
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String mediaType;
+
+        Format(String mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public String mediaType() {
+            return mediaType;
+        }
+
+        /** Extension du fichier téléchargé */
+        public String extension() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * @throws IllegalArgumentException si le format est inconnu
+         */
+        public static Format parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    public LaunchExportService(
+            LaunchRepository launchRepository,
+            ObjectMapper objectMapper,
+            @Value("${spacex.export.fetch-size:1000}") int fetchSize) {
+        this.launchRepository = launchRepository;
+        this.summaryWriter = objectMapper.writerFor(LaunchSummary.class);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Écrit les lancements correspondant aux filtres dans le flux
+     * Le flux n'est pas fermé (géré par l'appelant)
+     *
+     * @return Nombre de lancements écrits
+     */
+    @Transactional(readOnly = true)
+    public long export(LaunchFilter filter, Format format, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        long rows;
+        try (Stream<LaunchSummary> launches = launchRepository.streamSummaries(filter, fetchSize)) {
+            Iterator<LaunchSummary> iterator = launches.iterator();
+            rows = format == Format.NDJSON ? writeNdjson(iterator, out) : writeCsv(iterator, out);
+        }
+
+        logger.info("Exported {} launches as {} (filter={}) in {} ms",
+                rows, format, filter.cacheKey(), (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    private long writeNdjson(Iterator<LaunchSummary> launches, OutputStream out) throws IOException {
+        long rows = 0;
+        while (launches.hasNext()) {
+            out.write(summaryWriter.writeValueAsBytes(launches.next()));
+            out.write('\n');
+            rows++;
+        }
+        out.flush();
+        return rows;
+    }
+
+    private long writeCsv(Iterator<LaunchSummary> launches, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+
+        long rows = 0;
+        while (launches.hasNext()) {
+            LaunchSummary launch = launches.next();
+            writer.write(csvField(launch.id()));
+            writer.write(',');
+            writer.write(csvField(launch.name()));
+            writer.write(',');
+            writer.write(csvField(launch.dateUtc()));
+            writer.write(',');
+            writer.write(csvField(launch.success()));
+            writer.write(',');
+            writer.write(csvField(launch.rocketId()));
+            writer.write(',');
+            writer.write(csvField(launch.rocketName()));
+            writer.write(',');
+            writer.write(csvField(launch.launchPadId()));
+            writer.write(',');
+            writer.write(csvField(launch.launchPadName()));
+            writer.write("\r\n");
+            rows++;
+        }
+        writer.flush();
+        return rows;
+    }
+
+    /**
+     * Champ CSV (RFC 4180): entre guillemets s'il contient un séparateur,
+     * un guillemet ou un saut de ligne; null devient un champ vide
+     */
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
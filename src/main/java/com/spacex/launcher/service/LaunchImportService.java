@@ -0,0 +1,395 @@
+package com.spacex.launcher.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.spacex.launcher.cache.CacheTags;
+import com.spacex.launcher.cache.ReferenceDataCache;
+import com.spacex.launcher.dto.ImportReport;
+import com.spacex.launcher.dto.spacex.LaunchDto;
+import com.spacex.launcher.dto.spacex.PayloadDto;
+import com.spacex.launcher.event.LaunchDataChangedEvent;
+import com.spacex.launcher.repository.DatasetWriteLock;
+import com.spacex.launcher.repository.LaunchImportRepository;
+import com.spacex.launcher.repository.LaunchImportRepository.MergeResult;
+import com.spacex.launcher.repository.LaunchImportRepository.RowWriter;
+import com.spacex.launcher.repository.LaunchImportRepository.TouchedState;
+
+/**
+ * Import en masse de lancements ou de payloads (NDJSON)
+ *
+ * Une ligne par objet, au format de l'API SpaceX (LaunchDto, PayloadDto).
+ * Le corps de la requête est lu ligne à ligne: chaque ligne est validée puis
+ * écrite aussitôt dans le flux COPY vers PostgreSQL, sans être conservée.
+ * Les lignes invalides sont rejetées (et comptées) sans interrompre l'import.
+ *
+ * Comme une synchronisation, un import ouvre une version du jeu de données:
+ * changements journalisés, vecteurs de recherche recalculés, caches
+ * invalidés par tags (LaunchDataChangedEvent) puis version publiée, le tout
+ * sous DatasetWriteLock.
+ */
+@Service
+public class LaunchImportService {
+    private static final Logger logger = LoggerFactory.getLogger(LaunchImportService.class);
+
+    /** Nombre d'erreurs détaillées dans le bilan */
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    /** Longueur des colonnes VARCHAR */
+    private static final int MAX_LENGTH = 255;
+
+    private final LaunchImportRepository launchImportRepository;
+    private final DatasetWriteLock datasetWriteLock;
+    private final ChangeFeedService changeFeedService;
+    private final LaunchSearchService launchSearchService;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate writeTransaction;
+    private final ObjectReader launchReader;
+    private final ObjectReader payloadReader;
+
+    /**
+     * Tables importables
+     */
+    public enum Dataset {
+        LAUNCHES,
+        PAYLOADS;
+
+        public String path() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * @throws IllegalArgumentException si la table est inconnue
+         */
+        public static Dataset parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    public LaunchImportService(
+            LaunchImportRepository launchImportRepository,
+            DatasetWriteLock datasetWriteLock,
+            ChangeFeedService changeFeedService,
+            LaunchSearchService launchSearchService,
+            ReferenceDataCache referenceDataCache,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper) {
+        this.launchImportRepository = launchImportRepository;
+        this.datasetWriteLock = datasetWriteLock;
+        this.changeFeedService = changeFeedService;
+        this.launchSearchService = launchSearchService;
+        this.referenceDataCache = referenceDataCache;
+        this.eventPublisher = eventPublisher;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.launchReader = objectMapper.readerFor(LaunchDto.class);
+        this.payloadReader = objectMapper.readerFor(PayloadDto.class);
+    }
+
+    /**
+     * Importe un flux NDJSON (UTF-8) dans une transaction
+     * Le flux n'est pas fermé (géré par l'appelant)
+     */
+    public ImportReport importNdjson(Dataset dataset, InputStream body) throws IOException {
+        try (DatasetWriteLock.Lease lease = datasetWriteLock.acquire()) {
+            return importLocked(dataset, body);
+        }
+    }
+
+    private ImportReport importLocked(Dataset dataset, InputStream body) throws IOException {
+        long start = System.nanoTime();
+        long version = changeFeedService.openVersion();
+        ParseStats stats = new ParseStats();
+
+        MergeResult result;
+        try {
+            result = writeTransaction.execute(status -> switch (dataset) {
+                case LAUNCHES -> {
+                    stats.distinct = launchImportRepository.copyLaunches(
+                            ndjsonRows(body, launchReader, LaunchImportService::validateLaunch,
+                                    LaunchImportService::writeLaunchRow, stats));
+                    yield launchImportRepository.mergeLaunches(version);
+                }
+                case PAYLOADS -> {
+                    stats.distinct = launchImportRepository.copyPayloads(
+                            ndjsonRows(body, payloadReader, LaunchImportService::validatePayload,
+                                    LaunchImportService::writePayloadRow, stats));
+                    yield launchImportRepository.mergePayloads(version);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // Vecteurs remis à NULL par la fusion
+        launchSearchService.refreshSearchVectors(List.of());
+        referenceDataCache.evictAll();
+        if (result.changes() > 0) {
+            eventPublisher.publishEvent(
+                    new LaunchDataChangedEvent(version, result.changes(), touchedTags(result.touched())));
+        }
+        changeFeedService.publish(version, result.changes());
+
+        logger.info("Imported {} from NDJSON: {} records, {} rejected, {} duplicates, {} inserted, {} updated, "
+                + "{} changes (version {}) in {} ms",
+                dataset.path(), stats.records, stats.rejected, stats.records - stats.distinct, result.inserted(),
+                result.updated(), result.changes(), version, (System.nanoTime() - start) / 1_000_000);
+        return new ImportReport(
+                dataset.path(),
+                stats.records,
+                stats.rejected,
+                stats.records - stats.distinct,
+                result.inserted(),
+                result.updated(),
+                stats.distinct - result.inserted() - result.updated(),
+                result.changes(),
+                version,
+                List.copyOf(stats.errors));
+    }
+
+    /**
+     * Tags touchés: tous les critères des états avant et après la fusion,
+     * chaque année de la plage de dates
+     */
+    static Set<String> touchedTags(List<TouchedState> touched) {
+        Set<String> tags = new HashSet<>();
+        tags.add(CacheTags.LAUNCHES);
+        tags.add(CacheTags.YEARS);
+        for (TouchedState state : touched) {
+            tags.add(CacheTags.success(state.success()));
+            if (state.rocketId() != null) {
+                tags.add(CacheTags.rocket(state.rocketId()));
+            }
+            if (state.launchPadId() != null) {
+                tags.add(CacheTags.launchPad(state.launchPadId()));
+            }
+            if (state.firstDate() != null) {
+                int lastYear = CacheTags.yearOf(state.lastDate());
+                for (int year = CacheTags.yearOf(state.firstDate()); year <= lastYear; year++) {
+                    tags.add(CacheTags.year(year));
+                }
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Ligne CSV de la table de travail
+     */
+    @FunctionalInterface
+    private interface RowFormat<T> {
+        void write(Writer out, long line, T record) throws IOException;
+    }
+
+    /**
+     * Lecture du NDJSON pendant le COPY: une ligne valide devient une ligne CSV
+     */
+    private static <T> RowWriter ndjsonRows(
+            InputStream body,
+            ObjectReader reader,
+            Function<T, String> validator,
+            RowFormat<T> format,
+            ParseStats stats) {
+        return out -> {
+            BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            long lineNumber = 0;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                T record;
+                try {
+                    record = reader.readValue(line);
+                } catch (JsonProcessingException e) {
+                    stats.reject(lineNumber, "malformed JSON: " + e.getOriginalMessage());
+                    continue;
+                }
+
+                String error = record != null ? validator.apply(record) : "null record";
+                if (error != null) {
+                    stats.reject(lineNumber, error);
+                    continue;
+                }
+                format.write(out, lineNumber, record);
+                stats.records++;
+            }
+        };
+    }
+
+    /**
+     * @return Message d'erreur, null si le lancement est valide
+     */
+    static String validateLaunch(LaunchDto launch) {
+        String error = firstError(
+                checkText("id", launch.getId(), true),
+                checkText("name", launch.getName(), true),
+                checkText("details", launch.getDetails(), false, Integer.MAX_VALUE),
+                checkText("rocket", launch.getRocket(), false),
+                checkText("launchpad", launch.getLaunchpad(), false));
+        if (error != null || launch.getPayloads() == null) {
+            return error;
+        }
+        for (String payloadId : launch.getPayloads()) {
+            error = checkText("payloads[]", payloadId, true);
+            if (error != null) {
+                return error;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Message d'erreur, null si le payload est valide
+     */
+    static String validatePayload(PayloadDto payload) {
+        String error = firstError(
+                checkText("id", payload.getId(), true),
+                checkText("name", payload.getName(), false),
+                checkText("type", payload.getType(), false),
+                checkText("orbit", payload.getOrbit(), false),
+                checkText("customer", payload.getCustomer(), false));
+        if (error != null) {
+            return error;
+        }
+        Double massKg = payload.getMassKg();
+        if (massKg != null && (!Double.isFinite(massKg) || massKg < 0)) {
+            return "mass_kg must be a positive number";
+        }
+        return null;
+    }
+
+    private static String checkText(String field, String value, boolean required) {
+        return checkText(field, value, required, MAX_LENGTH);
+    }
+
+    private static String checkText(String field, String value, boolean required, int maxLength) {
+        if (value == null || value.isBlank()) {
+            return required ? field + " is required" : null;
+        }
+        if (value.length() > maxLength) {
+            return field + " exceeds " + maxLength + " characters";
+        }
+        // Refusé par PostgreSQL dans un texte: ferait échouer tout le COPY
+        if (value.indexOf('\0') >= 0) {
+            return field + " contains a NUL character";
+        }
+        return null;
+    }
+
+    private static String firstError(String... errors) {
+        for (String error : errors) {
+            if (error != null) {
+                return error;
+            }
+        }
+        return null;
+    }
+
+    private static void writeLaunchRow(Writer out, long line, LaunchDto launch) throws IOException {
+        out.write(Long.toString(line));
+        out.write(',');
+        out.write(copyField(launch.getId()));
+        out.write(',');
+        out.write(copyField(launch.getName()));
+        out.write(',');
+        out.write(copyField(launch.getDateUtc()));
+        out.write(',');
+        out.write(copyField(launch.getSuccess()));
+        out.write(',');
+        out.write(copyField(launch.getDetails()));
+        out.write(',');
+        out.write(copyField(launch.getRocket()));
+        out.write(',');
+        out.write(copyField(launch.getLaunchpad()));
+        out.write(',');
+        out.write(copyField(arrayLiteral(launch.getPayloads() != null ? launch.getPayloads() : List.of())));
+        out.write('\n');
+    }
+
+    private static void writePayloadRow(Writer out, long line, PayloadDto payload) throws IOException {
+        out.write(Long.toString(line));
+        out.write(',');
+        out.write(copyField(payload.getId()));
+        out.write(',');
+        out.write(copyField(payload.getName()));
+        out.write(',');
+        out.write(copyField(payload.getType()));
+        out.write(',');
+        out.write(copyField(payload.getMassKg()));
+        out.write(',');
+        out.write(copyField(payload.getOrbit()));
+        out.write(',');
+        out.write(copyField(payload.getCustomer()));
+        out.write('\n');
+    }
+
+    /**
+     * Champ CSV pour COPY: toujours entre guillemets, seul null donne un
+     * champ vide (NULL); une chaîne vide reste une chaîne vide
+     */
+    static String copyField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        return '"' + value.toString().replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Tableau PostgreSQL de textes: {"a","b"}
+     */
+    static String arrayLiteral(List<String> values) {
+        StringBuilder literal = new StringBuilder("{");
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                literal.append(',');
+            }
+            literal.append('"')
+                    .append(values.get(i).replace("\\", "\\\\").replace("\"", "\\\""))
+                    .append('"');
+        }
+        return literal.append('}').toString();
+    }
+
+    /**
+     * Compteurs de lecture (écrits par le thread qui lit le corps)
+     */
+    private static final class ParseStats {
+        private long records;
+        private long rejected;
+        /** Ids distincts parmi les lignes valides (dernière ligne gardée) */
+        private long distinct;
+        private final List<String> errors = new ArrayList<>();
+
+        void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("line " + line + ": " + message);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.spacex.launcher.service;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spacex.launcher.dto.NearbyLaunchPad;
+import com.spacex.launcher.geo.GeoDistance;
+import com.spacex.launcher.model.LaunchPad;
+import com.spacex.launcher.repository.LaunchPadRepository;
+
+/**
+ * Recherche géographique des sites de lancement
+ *
+ * Les candidats sont lus via l'index geohash et le rectangle englobant,
+ * puis la distance exacte (Haversine) est calculée sur ces seuls candidats.
+ */
+@Service
+public class LaunchPadGeoService {
+    private static final Logger logger = LoggerFactory.getLogger(LaunchPadGeoService.class);
+
+    /** Rayon initial de la recherche des plus proches voisins */
+    private static final double INITIAL_NEAREST_RADIUS_KM = 100;
+
+    private final LaunchPadRepository launchPadRepository;
+
+    public LaunchPadGeoService(LaunchPadRepository launchPadRepository) {
+        this.launchPadRepository = launchPadRepository;
+    }
+
+    /**
+     * Sites situés à moins de radiusKm, du plus proche au plus lointain
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyLaunchPad> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        return candidates(latitude, longitude, radiusKm).stream()
+                .filter(pad -> pad.distanceKm() <= radiusKm)
+                .sorted(Comparator.comparingDouble(NearbyLaunchPad::distanceKm))
+                .toList();
+    }
+
+    /**
+     * Les k sites les plus proches
+     *
+     * Le rayon de recherche est quadruplé tant que moins de k sites sont
+     * trouvés: les sites hors du rayon sont forcément plus lointains.
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyLaunchPad> nearest(double latitude, double longitude, int k) {
+        double radiusKm = INITIAL_NEAREST_RADIUS_KM;
+        while (true) {
+            List<NearbyLaunchPad> found = findWithinRadius(latitude, longitude, radiusKm);
+            if (found.size() >= k || radiusKm >= GeoDistance.MAX_DISTANCE_KM) {
+                return found.size() > k ? found.subList(0, k) : found;
+            }
+            radiusKm = Math.min(radiusKm * 4, GeoDistance.MAX_DISTANCE_KM);
+        }
+    }
+
+    /**
+     * Calcule le geohash des sites enregistrés avant l'ajout de la colonne
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillGeohashes() {
+        List<LaunchPad> missing = launchPadRepository.findMissingGeohash();
+        missing.forEach(LaunchPad::refreshGeohash);
+        if (!missing.isEmpty()) {
+            logger.info("Computed geohash of {} launchpads", missing.size());
+        }
+    }
+
+    private List<NearbyLaunchPad> candidates(double latitude, double longitude, double radiusKm) {
+        return launchPadRepository.findInBoxes(GeoDistance.boundingBoxes(latitude, longitude, radiusKm)).stream()
+                .map(pad -> new NearbyLaunchPad(pad.getId(), pad.getName(), pad.getLocality(), pad.getRegion(),
+                        pad.getLatitude(), pad.getLongitude(),
+                        GeoDistance.haversineKm(latitude, longitude, pad.getLatitude(), pad.getLongitude())))
+                .toList();
+    }
+}
@@ -0,0 +1,73 @@
+package com.spacex.launcher.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spacex.launcher.dto.LaunchSearchHit;
+import com.spacex.launcher.dto.LaunchSearchResult;
+import com.spacex.launcher.repository.LaunchRepository;
+
+/**
+ * Recherche plein texte des lancements
+ *
+ * Porte sur le nom et les détails du lancement, les noms de fusée et de
+ * site, les noms et clients des payloads. Les vecteurs de recherche sont
+ * recalculés par la synchronisation pour les lancements modifiés.
+ */
+@Service
+public class LaunchSearchService {
+    private static final Logger logger = LoggerFactory.getLogger(LaunchSearchService.class);
+
+    private final LaunchRepository launchRepository;
+    private final String textConfig;
+
+    public LaunchSearchService(
+            LaunchRepository launchRepository,
+            @Value("${spacex.search.text-config:english}") String textConfig) {
+        this.launchRepository = launchRepository;
+        this.textConfig = textConfig;
+    }
+
+    /**
+     * Recherche paginée, résultats triés par pertinence décroissante
+     *
+     * @param query Requête (syntaxe websearch: "phrase exacte", or, -exclu)
+     * @param page  Numéro de page (0-based)
+     * @param size  Taille de page
+     */
+    @Transactional(readOnly = true)
+    public LaunchSearchResult search(String query, int page, int size) {
+        logger.debug("Searching launches for '{}' (page {}, size {})", query, page, size);
+
+        long offset = (long) page * size;
+        List<LaunchSearchHit> hits = launchRepository.search(query, textConfig, offset, size);
+
+        // COUNT évité quand la page est incomplète
+        long total = !hits.isEmpty() && hits.size() < size
+                ? offset + hits.size()
+                : launchRepository.countSearch(query, textConfig);
+        int totalPages = (int) ((total + size - 1) / size);
+
+        return new LaunchSearchResult(query, hits, page, size, total, totalPages);
+    }
+
+    /**
+     * Met à jour les vecteurs de recherche après une synchronisation
+     *
+     * @param launchIds Lancements insérés ou modifiés
+     */
+    @Transactional
+    public void refreshSearchVectors(Collection<String> launchIds) {
+        int updated = launchRepository.refreshSearchVectors(launchIds, textConfig)
+                + launchRepository.refreshMissingSearchVectors(textConfig);
+        if (updated > 0) {
+            logger.info("Refreshed search vectors of {} launches", updated);
+        }
+    }
+}
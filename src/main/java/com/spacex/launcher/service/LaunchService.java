@@ -1,29 +1,58 @@
 package com.spacex.launcher.service;
 
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.spacex.launcher.cache.CacheKeys;
+import com.spacex.launcher.cache.CacheNames;
+import com.spacex.launcher.cache.CacheTagIndex;
+import com.spacex.launcher.cache.CacheTags;
+import com.spacex.launcher.cache.ReferenceDataCache;
 import com.spacex.launcher.client.SpaceXClient;
+import com.spacex.launcher.dto.LaunchBatch;
+import com.spacex.launcher.dto.LaunchCursor;
+import com.spacex.launcher.dto.LaunchDetail;
+import com.spacex.launcher.dto.LaunchFilter;
+import com.spacex.launcher.dto.LaunchPage;
+import com.spacex.launcher.dto.LaunchPayloadRow;
+import com.spacex.launcher.dto.LaunchSlice;
 import com.spacex.launcher.dto.LaunchStats;
+import com.spacex.launcher.dto.LaunchSummary;
+import com.spacex.launcher.dto.PayloadSummary;
 import com.spacex.launcher.dto.YearlyStats;
 import com.spacex.launcher.dto.spacex.LaunchDto;
+import com.spacex.launcher.dto.spacex.PayloadDto;
+import com.spacex.launcher.event.LaunchDataChangedEvent;
 import com.spacex.launcher.mapper.LaunchMapper;
+import com.spacex.launcher.model.ChangeType;
 import com.spacex.launcher.model.Launch;
 import com.spacex.launcher.model.LaunchPad;
+import com.spacex.launcher.model.Payload;
 import com.spacex.launcher.model.Rocket;
+import com.spacex.launcher.repository.DatasetWriteLock;
 import com.spacex.launcher.repository.LaunchPadRepository;
 import com.spacex.launcher.repository.LaunchRepository;
 import com.spacex.launcher.repository.RocketRepository;
@@ -42,41 +71,171 @@ public class LaunchService {
     private final LaunchPadRepository launchPadRepository;
     private final SpaceXClient spaceXClient;
     private final LaunchMapper launchMapper;
+    private final ChangeFeedService changeFeedService;
+    private final LaunchSearchService launchSearchService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheTagIndex cacheTagIndex;
+    private final ReferenceDataCache referenceDataCache;
+    private final DatasetWriteLock datasetWriteLock;
+    private final TransactionTemplate writeTransaction;
+    private final int cachedPageCount;
 
     public LaunchService(
             LaunchRepository launchRepository,
             RocketRepository rocketRepository,
             LaunchPadRepository launchPadRepository,
             SpaceXClient spaceXClient,
-            LaunchMapper launchMapper) {
+            LaunchMapper launchMapper,
+            ChangeFeedService changeFeedService,
+            LaunchSearchService launchSearchService,
+            ApplicationEventPublisher eventPublisher,
+            CacheTagIndex cacheTagIndex,
+            ReferenceDataCache referenceDataCache,
+            DatasetWriteLock datasetWriteLock,
+            PlatformTransactionManager transactionManager,
+            @Value("${spacex.cache.launch-pages:3}") int cachedPageCount) {
         this.launchRepository = launchRepository;
         this.rocketRepository = rocketRepository;
         this.launchPadRepository = launchPadRepository;
         this.spaceXClient = spaceXClient;
         this.launchMapper = launchMapper;
+        this.changeFeedService = changeFeedService;
+        this.launchSearchService = launchSearchService;
+        this.eventPublisher = eventPublisher;
+        this.cacheTagIndex = cacheTagIndex;
+        this.referenceDataCache = referenceDataCache;
+        this.datasetWriteLock = datasetWriteLock;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.cachedPageCount = cachedPageCount;
+    }
+
+    /**
+     * Nombre de premières pages de lancements mises en cache (et préchauffées)
+     * par filtre
+     */
+    public int getCachedPageCount() {
+        return cachedPageCount;
     }
 
     /**
      * Synchronise les données avec l'API SpaceX
      * Utilisé au démarrage et par l'admin
+     *
+     * Chaque synchronisation ouvre une version du jeu de données: les
+     * insertions, mises à jour et suppressions sont journalisées puis la
+     * version est publiée (flux GET /dashboard/changes).
+     *
+     * Si des lancements ont changé, LaunchDataChangedEvent est publié avant la
+     * version: les caches sont reconstruits avant que les clients ne la voient.
+     * Les vecteurs de recherche plein texte sont mis à jour au préalable et
+     * le cache de second niveau des fusées et sites est vidé.
+     *
+     * Chaque lancement est traité dans une transaction en écriture: les
+     * lectures de la synchronisation restent sur le primaire (pas de réplica
+     * en retard sur les fusées et sites tout juste insérés).
+     *
+     * Les payloads (orbite, client...) sont lus en une fois avant les
+     * lancements, qui ne portent que leurs IDs. Si cette lecture échoue, les
+     * payloads déjà en base sont conservés tels quels.
+     *
+     * Synchronisations et imports NDJSON sont sérialisés par DatasetWriteLock,
+     * pris à l'abonnement et relâché une fois la version publiée.
+     *
+     * Une synchronisation interrompue (erreur, annulation) publie quand même
+     * les lancements déjà commités, sans supprimer les lancements absents.
      */
     @Transactional
-    @CacheEvict(value = { "launchStats", "yearlyStats" }, allEntries = true)
     public Mono<Long> synchronizeWithSpaceX() {
-        logger.info("Starting synchronization with SpaceX API");
+        return Mono.using(datasetWriteLock::acquire, lease -> {
+            logger.info("Starting synchronization with SpaceX API");
+            return spaceXClient.getAllPayloads()
+                    .collectMap(PayloadDto::getId)
+                    .onErrorResume(error -> {
+                        logger.warn("Failed to fetch payloads, keeping stored payload details: {}",
+                                error.getMessage());
+                        return Mono.just(Map.of());
+                    })
+                    .flatMap(this::synchronizeLaunches);
+        }, DatasetWriteLock.Lease::close);
+    }
+
+    private Mono<Long> synchronizeLaunches(Map<String, PayloadDto> payloads) {
+        SyncContext sync = new SyncContext(changeFeedService.openVersion(), payloads);
+        Set<String> seenIds = ConcurrentHashMap.newKeySet();
 
         return spaceXClient.getAllLaunches()
-                .flatMap(this::enrichAndSaveLaunch)
+                .doOnNext(dto -> seenIds.add(dto.getId()))
+                .flatMap(dto -> enrichAndSaveLaunch(dto, sync))
                 .count()
-                .doOnSuccess(count -> logger.info("Synchronization completed: {} launches processed", count))
-                .doOnError(error -> logger.error("Synchronization failed", error));
+                .doOnSuccess(count -> {
+                    writeTransaction.executeWithoutResult(status -> removeStaleLaunches(seenIds, sync));
+                    publishSync(sync);
+                    logger.info("Synchronization completed: {} launches processed, {} changes (version {})",
+                            count, sync.changeCount.get(), sync.version);
+                })
+                .doOnError(error -> {
+                    logger.error("Synchronization failed", error);
+                    publishPartialSync(sync);
+                })
+                .doOnCancel(() -> {
+                    logger.warn("Synchronization cancelled (version {})", sync.version);
+                    publishPartialSync(sync);
+                });
+    }
+
+    /**
+     * Rend visibles les changements commités: vecteurs de recherche, cache
+     * de second niveau, LaunchDataChangedEvent puis version
+     *
+     * Une seule fois par synchronisation: un lancement en cours de sauvegarde
+     * se termine avant, les suivants sont ignorés.
+     */
+    private void publishSync(SyncContext sync) {
+        if (!sync.finish()) {
+            return;
+        }
+        launchSearchService.refreshSearchVectors(sync.savedIds);
+        referenceDataCache.evictAll();
+        long changes = sync.changeCount.get();
+        if (changes > 0) {
+            eventPublisher.publishEvent(
+                    new LaunchDataChangedEvent(sync.version, changes, Set.copyOf(sync.touchedTags)));
+        }
+        changeFeedService.publish(sync.version, changes);
+    }
+
+    /**
+     * Synchronisation interrompue (erreur de l'API ou d'une sauvegarde,
+     * annulation): les lancements déjà commités sont publiés quand même.
+     * Sinon leurs tags ne seraient jamais invalidés, la synchronisation
+     * suivante ne voyant plus de différence avec la base. Les lancements
+     * absents ne sont pas supprimés (liste incomplète).
+     */
+    private void publishPartialSync(SyncContext sync) {
+        try {
+            publishSync(sync);
+            logger.info("Partial synchronization published: {} changes (version {})",
+                    sync.changeCount.get(), sync.version);
+        } catch (RuntimeException e) {
+            logger.error("Failed to publish partial synchronization (version {})", sync.version, e);
+        }
     }
 
     /**
      * Enrichit un LaunchDto avec Rocket et LaunchPad puis sauvegarde
+     * Un lancement identique à celui en base n'est pas réécrit
      */
-    private Mono<Launch> enrichAndSaveLaunch(LaunchDto dto) {
+    private Mono<Launch> enrichAndSaveLaunch(LaunchDto dto, SyncContext sync) {
         return Mono.fromCallable(() -> {
+            synchronized (sync) {
+                // Synchronisation déjà publiée (erreur ou annulation): plus d'écriture
+                return sync.finished ? null : saveLaunch(dto, sync);
+            }
+        });
+    }
+
+    private Launch saveLaunch(LaunchDto dto, SyncContext sync) {
+        return writeTransaction.execute(status -> {
             // Récupérer ou créer la fusée
             Rocket rocket = null;
             if (dto.getRocket() != null) {
@@ -91,10 +250,102 @@ public class LaunchService {
                         .orElseGet(() -> fetchAndSaveLaunchPad(dto.getLaunchpad()));
             }
 
-            // Mapper et sauvegarder le lancement
-            Launch launch = launchMapper.toEntity(dto, rocket, launchPad);
-            return launchRepository.save(launch);
+            // Mapper et comparer avec l'état en base
+            Optional<Launch> existing = launchRepository.findByIdWithDetails(dto.getId());
+            Map<String, Payload> storedPayloads = existing
+                    .map(current -> current.getPayloads().stream()
+                            .collect(Collectors.toMap(Payload::getId, Function.identity())))
+                    .orElse(Map.of());
+            Launch launch = launchMapper.toEntity(dto, rocket, launchPad,
+                    id -> payloadOf(id, sync.payloads, storedPayloads));
+            if (existing.isPresent() && isSameContent(existing.get(), launch)) {
+                return existing.get();
+            }
+
+            Launch saved = launchRepository.save(launch);
+            changeFeedService.recordChange(sync.version, saved.getId(),
+                    existing.isPresent() ? ChangeType.UPDATE : ChangeType.INSERT);
+            sync.savedIds.add(saved.getId());
+
+            // Tags touchés: état précédent et nouvel état
+            sync.touchedTags.addAll(CacheTags.forLaunch(launch));
+            if (existing.isPresent()) {
+                sync.touchedTags.addAll(CacheTags.forLaunch(existing.get()));
+            }
+            if (existing.isEmpty() || !Objects.equals(yearOf(existing.get()), yearOf(launch))) {
+                sync.touchedTags.add(CacheTags.YEARS);
+            }
+            sync.changeCount.incrementAndGet();
+            return saved;
+        });
+    }
+
+    /**
+     * Payload complet d'un lancement: version de l'API, sinon version en base
+     * (jamais un payload réduit à son ID, qui effacerait orbite et client)
+     */
+    private Payload payloadOf(String id, Map<String, PayloadDto> fetched, Map<String, Payload> stored) {
+        PayloadDto dto = fetched.get(id);
+        if (dto != null) {
+            return launchMapper.toEntity(dto);
+        }
+        Payload payload = stored.get(id);
+        return payload != null ? payload : Payload.builder().id(id).build();
+    }
+
+    /**
+     * Supprime les lancements absents de la réponse de l'API
+     */
+    private void removeStaleLaunches(Set<String> seenIds, SyncContext sync) {
+        if (seenIds.isEmpty()) {
+            // Réponse vide: on ne vide pas la base par précaution
+            return;
+        }
+
+        List<String> staleIds = launchRepository.findAllIds().stream()
+                .filter(id -> !seenIds.contains(id))
+                .collect(Collectors.toList());
+
+        launchRepository.findAllById(staleIds).forEach(stale -> {
+            launchRepository.delete(stale);
+            changeFeedService.recordChange(sync.version, stale.getId(), ChangeType.DELETE);
+            sync.touchedTags.addAll(CacheTags.forLaunch(stale));
+            sync.touchedTags.add(CacheTags.YEARS);
+            sync.changeCount.incrementAndGet();
         });
+
+        if (!staleIds.isEmpty()) {
+            logger.info("Removed {} launches no longer returned by SpaceX API", staleIds.size());
+        }
+    }
+
+    private static Integer yearOf(Launch launch) {
+        return launch.getDateUtc() != null ? CacheTags.yearOf(launch.getDateUtc()) : null;
+    }
+
+    private boolean isSameContent(Launch current, Launch incoming) {
+        return Objects.equals(current.getName(), incoming.getName())
+                && Objects.equals(current.getDateUtc(), incoming.getDateUtc())
+                && Objects.equals(current.getSuccess(), incoming.getSuccess())
+                && Objects.equals(current.getDetails(), incoming.getDetails())
+                && Objects.equals(idOf(current.getRocket()), idOf(incoming.getRocket()))
+                && Objects.equals(idOf(current.getLaunchPad()), idOf(incoming.getLaunchPad()))
+                && Objects.equals(payloads(current), payloads(incoming));
+    }
+
+    private static String idOf(Rocket rocket) {
+        return rocket != null ? rocket.getId() : null;
+    }
+
+    private static String idOf(LaunchPad launchPad) {
+        return launchPad != null ? launchPad.getId() : null;
+    }
+
+    /**
+     * Payloads comparés sur tout leur contenu (orbite et client filtrent la liste)
+     */
+    private static Set<Payload> payloads(Launch launch) {
+        return launch.getPayloads() == null ? Set.of() : new HashSet<>(launch.getPayloads());
     }
 
     private Rocket fetchAndSaveRocket(String rocketId) {
@@ -143,16 +394,28 @@ public class LaunchService {
         return launchPadRepository.save(pad);
     }
 
-    @Cacheable(value = "launchStats")
+    /**
+     * KPIs globaux
+     *
+     * nextLaunch dépend de l'heure courante: l'entrée en cache est recalculée
+     * dès que la date de ce lancement est passée
+     */
+    @Transactional(readOnly = true)
     public LaunchStats getGlobalStats() {
+        return cacheTagIndex.get(CacheNames.LAUNCH_STATS, CacheKeys.GLOBAL_STATS,
+                this::computeGlobalStats, stats -> List.of(CacheTags.LAUNCHES),
+                stats -> stats.isNextLaunchPast(Instant.now()));
+    }
+
+    private LaunchStats computeGlobalStats() {
         logger.debug("Calculating global launch statistics");
 
         // ✅ Optimisation: Utiliser COUNT SQL au lieu de charger en mémoire
         long totalLaunches = launchRepository.count();
         long successfulLaunches = launchRepository.countSuccessfulLaunches();
 
-        // ✅ Optimisation: Méthode dédiée avec JOIN FETCH
-        Launch nextLaunch = launchRepository
+        // ✅ Optimisation: projection directe, sans entité
+        LaunchSummary nextLaunch = launchRepository
                 .findNextLaunch(Instant.now())
                 .orElse(null);
 
@@ -164,66 +427,249 @@ public class LaunchService {
         return new LaunchStats(totalLaunches, successRate, nextLaunch);
     }
 
-    @Cacheable(value = "yearlyStats")
+    /**
+     * Statistiques par année
+     *
+     * ✅ Une entrée de cache par année (tag year:N): une synchronisation qui ne
+     * touche que les lancements à venir garde toutes les années passées en
+     * cache. La liste des années est elle-même en cache (tag years).
+     */
+    @Transactional(readOnly = true)
     public List<YearlyStats> getYearlyStats() {
-        logger.debug("Calculating yearly statistics");
-
-        // ✅ Optimisation: Utiliser SQL GROUP BY au lieu de Java stream
-        // Récupérer toutes les années distinctes
-        List<Launch> allLaunches = launchRepository.findAll();
-
-        return allLaunches.stream()
-                .map(launch -> LocalDateTime.ofInstant(launch.getDateUtc(), ZoneId.systemDefault()).getYear())
-                .distinct()
-                .sorted()
-                .map(year -> {
-                    Instant start = LocalDateTime.of(year, 1, 1, 0, 0)
-                            .atZone(ZoneId.systemDefault()).toInstant();
-                    Instant end = LocalDateTime.of(year, 12, 31, 23, 59, 59)
-                            .atZone(ZoneId.systemDefault()).toInstant();
-
-                    // ✅ Utiliser les méthodes de comptage SQL optimisées
-                    long total = launchRepository.countByYear(start, end);
-                    long successful = launchRepository.countSuccessfulByYear(start, end);
-                    double successRate = total > 0 ? (double) successful / total * 100 : 0;
-
-                    YearlyStats stats = new YearlyStats(total, successRate);
-                    stats.setYear(year);
-                    return stats;
-                })
+        List<Integer> years = cacheTagIndex.get(CacheNames.LAUNCH_YEARS, CacheKeys.LAUNCH_YEARS,
+                this::computeLaunchYears, range -> List.of(CacheTags.YEARS));
+
+        return years.stream()
+                .map(year -> cacheTagIndex.get(CacheNames.YEARLY_STATS, CacheKeys.yearFilter(year),
+                        () -> computeYearlyStats(year), stats -> List.of(CacheTags.year(year))))
+                .filter(stats -> stats.totalLaunches() > 0)
+                .collect(Collectors.toList());
+    }
+
+    private List<Integer> computeLaunchYears() {
+        logger.debug("Calculating launch year range");
+
+        // ✅ MIN/MAX SQL au lieu de charger tous les lancements
+        Instant first = launchRepository.findFirstLaunchDate();
+        Instant last = launchRepository.findLastLaunchDate();
+        if (first == null || last == null) {
+            return List.of();
+        }
+
+        return IntStream.rangeClosed(CacheTags.yearOf(first), CacheTags.yearOf(last))
+                .boxed()
                 .collect(Collectors.toList());
     }
 
+    private YearlyStats computeYearlyStats(int year) {
+        logger.debug("Calculating statistics for year {}", year);
+
+        // ✅ Utiliser les méthodes de comptage SQL optimisées
+        Instant start = LaunchFilter.startOfYear(year);
+        Instant end = LaunchFilter.endOfYear(year);
+        long total = launchRepository.countByYear(start, end);
+        long successful = launchRepository.countSuccessfulByYear(start, end);
+        double successRate = total > 0 ? (double) successful / total * 100 : 0;
+
+        return new YearlyStats(year, total, successRate);
+    }
+
     @Transactional(readOnly = true)
-    public Page<Launch> getAllLaunches(Pageable pageable) {
+    public LaunchPage getAllLaunches(Pageable pageable) {
         logger.debug("Fetching all launches with pagination: {}", pageable);
-        // ✅ Utiliser findAllWithDetails pour éviter N+1
-        return launchRepository.findAllWithDetails(pageable);
+        return cachedPage(CacheKeys.ALL_LAUNCHES, CacheTags.LAUNCHES, LaunchFilter.NONE, pageable);
     }
 
     @Transactional(readOnly = true)
-    public Page<Launch> getLaunchesByYear(int year, Pageable pageable) {
+    public LaunchPage getLaunchesByYear(int year, Pageable pageable) {
         logger.debug("Fetching launches for year: {}", year);
-        Instant startOfYear = LocalDateTime.of(year, 1, 1, 0, 0)
-                .atZone(ZoneId.systemDefault()).toInstant();
-        Instant endOfYear = LocalDateTime.of(year, 12, 31, 23, 59, 59)
-                .atZone(ZoneId.systemDefault()).toInstant();
-
-        // ✅ Utiliser findByYearWithDetails pour éviter N+1
-        return launchRepository.findByYearWithDetails(startOfYear, endOfYear, pageable);
+        return cachedPage(CacheKeys.yearFilter(year), CacheTags.year(year), LaunchFilter.ofYear(year), pageable);
     }
 
     @Transactional(readOnly = true)
-    public Page<Launch> getLaunchesByStatus(Boolean success, Pageable pageable) {
+    public LaunchPage getLaunchesByStatus(Boolean success, Pageable pageable) {
         logger.debug("Fetching launches by success status: {}", success);
-        // ✅ Utiliser findBySuccessWithDetails pour éviter N+1
-        return launchRepository.findBySuccessWithDetails(success, pageable);
+        return cachedPage(CacheKeys.successFilter(success), CacheTags.success(success),
+                LaunchFilter.ofSuccess(success), pageable);
+    }
+
+    /**
+     * Lancements correspondant à une combinaison de filtres
+     *
+     * ✅ Une seule requête SQL quelle que soit la combinaison (Criteria API),
+     * prédicats couverts par les index composites
+     */
+    @Transactional(readOnly = true)
+    public LaunchPage findLaunches(LaunchFilter filter, Pageable pageable) {
+        logger.debug("Fetching launches for filter {} with pagination: {}", filter.cacheKey(), pageable);
+        return launchMapper.toPage(launchRepository.findSummaries(filter, pageable));
+    }
+
+    /**
+     * Pagination par curseur sur (dateUtc DESC, id DESC)
+     *
+     * ✅ Pas d'OFFSET: une tranche profonde coûte autant que la première.
+     * Le total (optionnel) est mis en cache par filtre et invalidé par tag.
+     *
+     * @param filter       Filtres combinables
+     * @param after        Curseur de la tranche précédente (null = début)
+     * @param size         Taille de la tranche
+     * @param includeTotal Calculer le nombre total de lancements du filtre
+     */
+    @Transactional(readOnly = true)
+    public LaunchSlice getLaunchSlice(LaunchFilter filter, LaunchCursor after, int size, boolean includeTotal) {
+        logger.debug("Fetching launch slice (filter={}, after={}, size={})", filter.cacheKey(), after, size);
+
+        // Un élément de plus pour savoir s'il reste une tranche
+        List<LaunchSummary> content = launchRepository.findSummarySlice(filter, after, size + 1);
+
+        String nextCursor = null;
+        if (content.size() > size) {
+            content = content.subList(0, size);
+            nextCursor = LaunchCursor.after(content.get(size - 1)).encode();
+        }
+
+        Long total = includeTotal ? countLaunches(filter) : null;
+        return new LaunchSlice(List.copyOf(content), size, nextCursor, total);
+    }
+
+    private long countLaunches(LaunchFilter filter) {
+        if (filter.upcoming() != null) {
+            // Dépend de l'heure courante: pas de cache
+            return launchRepository.countByFilter(filter);
+        }
+
+        return cacheTagIndex.get(CacheNames.LAUNCH_COUNTS, filter.cacheKey(),
+                () -> launchRepository.countByFilter(filter), count -> List.of(CacheTags.forFilter(filter)));
+    }
+
+    /**
+     * Page d'un filtre simple, en cache pour les premières pages
+     *
+     * ✅ Projection LaunchSummary: colonnes affichées uniquement, pas de N+1
+     */
+    private LaunchPage cachedPage(String filterKey, String filterTag, LaunchFilter filter, Pageable pageable) {
+        if (pageable.getPageNumber() >= cachedPageCount) {
+            return launchMapper.toPage(launchRepository.findSummaries(filter, pageable));
+        }
+        return cacheTagIndex.get(CacheNames.LAUNCH_PAGES, CacheKeys.launchPage(filterKey, pageable),
+                () -> launchMapper.toPage(launchRepository.findSummaries(filter, pageable)),
+                page -> pageTags(filterTag, page));
+    }
+
+    /**
+     * Tags d'une page mise en cache: tag du filtre + fusées et launchpads affichés
+     */
+    private static Set<String> pageTags(String filterTag, LaunchPage page) {
+        Set<String> tags = new HashSet<>();
+        tags.add(filterTag);
+        page.content().forEach(launch -> {
+            if (launch.rocketId() != null) {
+                tags.add(CacheTags.rocket(launch.rocketId()));
+            }
+            if (launch.launchPadId() != null) {
+                tags.add(CacheTags.launchPad(launch.launchPadId()));
+            }
+        });
+        return tags;
     }
 
+    /**
+     * Détail d'un lancement avec ses payloads (deux projections)
+     */
     @Transactional(readOnly = true)
-    public Optional<Launch> getLaunchById(String id) {
+    public Optional<LaunchDetail> getLaunchById(String id) {
         logger.debug("Fetching launch by id: {}", id);
-        // ✅ Utiliser findByIdWithDetails pour charger aussi les payloads
-        return launchRepository.findByIdWithDetails(id);
+        return launchRepository.findDetailById(id)
+                .map(detail -> detail.withPayloads(launchRepository.findPayloadSummaries(id)));
+    }
+
+    /**
+     * Lancements par ID, sans leurs payloads (une requête WHERE id IN)
+     *
+     * @return Détails indexés par ID; les IDs inconnus sont absents
+     */
+    @Transactional(readOnly = true)
+    public Map<String, LaunchDetail> getLaunchDetails(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return launchRepository.findDetailsByIds(ids).stream()
+                .collect(Collectors.toMap(LaunchDetail::id, Function.identity()));
+    }
+
+    /**
+     * Payloads de plusieurs lancements en une requête
+     *
+     * @return Payloads triés par nom, indexés par ID de lancement; les
+     *         lancements sans payload sont absents
+     */
+    @Transactional(readOnly = true)
+    public Map<String, List<PayloadSummary>> getPayloadsByLaunchIds(Collection<String> launchIds) {
+        if (launchIds.isEmpty()) {
+            return Map.of();
+        }
+        return launchRepository.findPayloadRowsByLaunchIds(launchIds).stream()
+                .collect(Collectors.groupingBy(LaunchPayloadRow::launchId,
+                        Collectors.mapping(row -> new PayloadSummary(row.id(), row.name(), row.type(),
+                                row.massKg(), row.orbit(), row.customer()), Collectors.toList())));
+    }
+
+    /**
+     * Détail de plusieurs lancements en deux requêtes (lancements, puis
+     * payloads de tous les lancements trouvés), quel que soit leur nombre
+     *
+     * @param ids IDs demandés; l'ordre (et les doublons) est conservé dans la réponse
+     */
+    @Transactional(readOnly = true)
+    public LaunchBatch getLaunchesByIds(List<String> ids) {
+        Set<String> distinctIds = new LinkedHashSet<>(ids);
+        Map<String, LaunchDetail> details = getLaunchDetails(distinctIds);
+        Map<String, List<PayloadSummary>> payloads = getPayloadsByLaunchIds(details.keySet());
+
+        List<LaunchBatch.Item> items = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            LaunchDetail detail = details.get(id);
+            items.add(detail == null
+                    ? new LaunchBatch.Item(id, false, null)
+                    : new LaunchBatch.Item(id, true, detail.withPayloads(payloads.getOrDefault(id, List.of()))));
+        }
+        List<String> missing = distinctIds.stream()
+                .filter(id -> !details.containsKey(id))
+                .toList();
+
+        logger.debug("Batch lookup of {} launches: {} found, {} missing",
+                distinctIds.size(), details.size(), missing.size());
+        return new LaunchBatch(items, missing);
+    }
+
+    /**
+     * État d'une synchronisation en cours
+     */
+    private static final class SyncContext {
+        private final long version;
+        private final AtomicLong changeCount = new AtomicLong();
+        private final Set<String> touchedTags = ConcurrentHashMap.newKeySet();
+        private final Set<String> savedIds = ConcurrentHashMap.newKeySet();
+        private final Map<String, PayloadDto> payloads;
+        private boolean finished;
+
+        private SyncContext(long version, Map<String, PayloadDto> payloads) {
+            this.version = version;
+            this.payloads = payloads;
+        }
+
+        /**
+         * Clôt la synchronisation (attend la sauvegarde en cours)
+         *
+         * @return false si elle était déjà close
+         */
+        private synchronized boolean finish() {
+            if (finished) {
+                return false;
+            }
+            finished = true;
+            return true;
+        }
     }
 }
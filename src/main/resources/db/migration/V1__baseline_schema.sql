@@ -0,0 +1,104 @@
+-- Schéma initial (état du modèle JPA au passage à Flyway)
+-- Idempotent: une base créée auparavant par ddl-auto=update est marquée en V0
+-- (spring.flyway.baseline-on-migrate) puis ce script la complète.
+
+CREATE TABLE IF NOT EXISTS roles (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(255) NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id       UUID NOT NULL,
+    email    VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    username VARCHAR(255) NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS user_roles (
+    role_id BIGINT NOT NULL,
+    user_id UUID NOT NULL,
+    PRIMARY KEY (role_id, user_id),
+    CONSTRAINT fkh8ciramu9cc9q3qcqiv4ue8a6 FOREIGN KEY (role_id) REFERENCES roles,
+    CONSTRAINT fkhfh9dx7w3ubf1co1vdev94g3f FOREIGN KEY (user_id) REFERENCES users
+);
+
+CREATE TABLE IF NOT EXISTS rockets (
+    id      VARCHAR(255) NOT NULL,
+    name    VARCHAR(255),
+    type    VARCHAR(255),
+    active  BOOLEAN NOT NULL,
+    country VARCHAR(255),
+    company VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS launch_pads (
+    id        VARCHAR(255) NOT NULL,
+    name      VARCHAR(255),
+    locality  VARCHAR(255),
+    region    VARCHAR(255),
+    latitude  FLOAT(53),
+    longitude FLOAT(53),
+    geohash   VARCHAR(12),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS launches (
+    id            VARCHAR(255) NOT NULL,
+    name          VARCHAR(255),
+    date_utc      TIMESTAMP(6) WITH TIME ZONE,
+    success       BOOLEAN,
+    details       TEXT,
+    rocket_id     VARCHAR(255),
+    launch_pad_id VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fkdv3hmad5x98mcbpf3o6idaruh FOREIGN KEY (rocket_id) REFERENCES rockets,
+    CONSTRAINT fk4vy1dlhn3b2p05osua83mrbi6 FOREIGN KEY (launch_pad_id) REFERENCES launch_pads
+);
+
+CREATE TABLE IF NOT EXISTS payloads (
+    id        VARCHAR(255) NOT NULL,
+    name      VARCHAR(255),
+    type      VARCHAR(255),
+    mass_kg   FLOAT(53),
+    orbit     VARCHAR(255),
+    customer  VARCHAR(255),
+    launch_id VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fks93n4n0harfq7tk10gsieo5s FOREIGN KEY (launch_id) REFERENCES launches
+);
+
+CREATE TABLE IF NOT EXISTS dataset_versions (
+    version           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    created_at        TIMESTAMP(6) WITH TIME ZONE,
+    published_at      TIMESTAMP(6) WITH TIME ZONE,
+    change_count      BIGINT NOT NULL,
+    compacted_through BIGINT,
+    PRIMARY KEY (version)
+);
+
+CREATE TABLE IF NOT EXISTS launch_changes (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    version     BIGINT NOT NULL,
+    launch_id   VARCHAR(255) NOT NULL,
+    change_type VARCHAR(8) NOT NULL CHECK (change_type IN ('INSERT', 'UPDATE', 'DELETE')),
+    changed_at  TIMESTAMP(6) WITH TIME ZONE,
+    PRIMARY KEY (id)
+);
+
+-- Colonne ajoutée au modèle avant le passage à Flyway: absente d'une base
+-- créée par une version plus ancienne
+ALTER TABLE launch_pads ADD COLUMN IF NOT EXISTS geohash VARCHAR(12);
+
+-- Index déclarés sur les entités (@Table(indexes = ...))
+CREATE INDEX IF NOT EXISTS idx_launches_date_id ON launches (date_utc, id);
+CREATE INDEX IF NOT EXISTS idx_launches_success_date_id ON launches (success, date_utc, id);
+CREATE INDEX IF NOT EXISTS idx_launches_rocket_date_id ON launches (rocket_id, date_utc, id);
+CREATE INDEX IF NOT EXISTS idx_launches_pad_date_id ON launches (launch_pad_id, date_utc, id);
+CREATE INDEX IF NOT EXISTS idx_payloads_orbit_launch ON payloads (orbit, launch_id);
+CREATE INDEX IF NOT EXISTS idx_payloads_customer_launch ON payloads (customer, launch_id);
+CREATE INDEX IF NOT EXISTS idx_launch_pads_geohash ON launch_pads (geohash);
+CREATE INDEX IF NOT EXISTS idx_launch_changes_version ON launch_changes (version);
+CREATE INDEX IF NOT EXISTS idx_launch_changes_launch_id ON launch_changes (launch_id);
@@ -0,0 +1,17 @@
+-- Index PostgreSQL de recherche (plein texte, trigrammes)
+-- Idempotent: ces objets ont pu être créés avant le passage à Flyway.
+
+-- Recherche plein texte des lancements
+-- search_vector est alimenté par la synchronisation (LaunchSearchService).
+ALTER TABLE launches ADD COLUMN IF NOT EXISTS search_vector tsvector;
+CREATE INDEX IF NOT EXISTS idx_launches_search_vector ON launches USING GIN (search_vector);
+
+-- Recherche approchée par nom (similarité trigramme et ILIKE '%...%')
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_rockets_name_trgm ON rockets USING GIN (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_launch_pads_name_trgm ON launch_pads USING GIN (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_payloads_name_trgm ON payloads USING GIN (name gin_trgm_ops);
+
+-- Recherche exacte insensible à la casse (findByNameIgnoreCase: upper(name) = upper(?))
+CREATE INDEX IF NOT EXISTS idx_rockets_name_upper ON rockets (upper(name));
+CREATE INDEX IF NOT EXISTS idx_launch_pads_name_upper ON launch_pads (upper(name));
@@ -0,0 +1,19 @@
+-- Index des requêtes du tableau de bord non couverts par V1
+--
+-- Déjà couverts par les index composites de V1 (colonne de tête):
+-- date_utc (idx_launches_date_id), success, rocket_id, launch_pad_id.
+-- Lancements à venir (date_utc > now()): now() n'est pas immuable et ne peut
+-- pas figurer dans le prédicat d'un index partiel; la plage est servie par
+-- idx_launches_date_id.
+
+-- Clé étrangère payloads -> launches: détail d'un lancement, JOIN FETCH des
+-- payloads, suppression d'un lancement (vérification de la contrainte)
+CREATE INDEX IF NOT EXISTS idx_payloads_launch_id ON payloads (launch_id);
+
+-- KPIs: COUNT des succès / échecs, globaux et par année (plage sur date_utc)
+-- Index partiels: seules les lignes concernées, parcours index-only
+CREATE INDEX IF NOT EXISTS idx_launches_successful_date ON launches (date_utc) WHERE success = true;
+CREATE INDEX IF NOT EXISTS idx_launches_failed_date ON launches (date_utc) WHERE success = false;
+
+ANALYZE launches;
+ANALYZE payloads;
@@ -0,0 +1,112 @@
+package com.spacex.launcher.arrow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.arrow.compression.CommonsCompressionFactory;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.TimeStampMilliTZVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.dictionary.DictionaryEncoder;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.util.ByteArrayReadableSeekableByteChannel;
+import org.junit.jupiter.api.Test;
+
+class ArrowTableWriterTest {
+
+    record Row(String id, String orbit, Instant date, Boolean success, Double mass) {
+    }
+
+    private static final List<ArrowColumn<Row>> COLUMNS = List.of(
+            ArrowColumn.utf8("id", Row::id),
+            ArrowColumn.dictionary("orbit", Row::orbit, List.of("LEO", "GTO")),
+            ArrowColumn.timestamp("date_utc", Row::date),
+            ArrowColumn.bool("success", Row::success),
+            ArrowColumn.float64("mass_kg", Row::mass));
+
+    @Test
+    void writtenTableReadsBackWithSchemaNullsAndRows() throws Exception {
+        List<Row> rows = List.of(
+                new Row("a", "LEO", Instant.parse("2020-01-01T00:00:00Z"), true, 12.5),
+                new Row("b", null, null, null, null),
+                new Row("c", "GTO", Instant.parse("2021-06-30T12:00:00Z"), false, 3000.0));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Lots de 2 lignes: un lot complet puis un lot partiel
+        assertThat(new ArrowTableWriter<>(COLUMNS, 2).write(rows.iterator(), out)).isEqualTo(3);
+
+        try (BufferAllocator allocator = new RootAllocator();
+                ArrowFileReader reader = new ArrowFileReader(
+                        new ByteArrayReadableSeekableByteChannel(out.toByteArray()), allocator,
+                        CommonsCompressionFactory.INSTANCE)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            List<Field> fields = root.getSchema().getFields();
+            assertThat(fields).extracting(Field::getName)
+                    .containsExactly("id", "orbit", "date_utc", "success", "mass_kg");
+            assertThat(fields.get(0).getType()).isEqualTo(ArrowType.Utf8.INSTANCE);
+            assertThat(fields.get(1).getDictionary()).isNotNull();
+            assertThat(fields.get(2).getType()).isEqualTo(new ArrowType.Timestamp(
+                    org.apache.arrow.vector.types.TimeUnit.MILLISECOND, "UTC"));
+
+            List<String> ids = new ArrayList<>();
+            List<String> orbits = new ArrayList<>();
+            List<Long> dates = new ArrayList<>();
+            List<Boolean> successes = new ArrayList<>();
+            List<Double> masses = new ArrayList<>();
+            int batches = 0;
+            while (reader.loadNextBatch()) {
+                batches++;
+                FieldVector orbitIndexes = root.getVector("orbit");
+                try (VarCharVector decoded = (VarCharVector) DictionaryEncoder.decode(orbitIndexes,
+                        reader.getDictionaryVectors().get(orbitIndexes.getField().getDictionary().getId()))) {
+                    for (int i = 0; i < root.getRowCount(); i++) {
+                        ids.add(new String(((VarCharVector) root.getVector("id")).get(i)));
+                        orbits.add(decoded.isNull(i) ? null : new String(decoded.get(i)));
+                        TimeStampMilliTZVector date = (TimeStampMilliTZVector) root.getVector("date_utc");
+                        dates.add(date.isNull(i) ? null : date.get(i));
+                        BitVector success = (BitVector) root.getVector("success");
+                        successes.add(success.isNull(i) ? null : success.get(i) == 1);
+                        Float8Vector mass = (Float8Vector) root.getVector("mass_kg");
+                        masses.add(mass.isNull(i) ? null : mass.get(i));
+                    }
+                }
+            }
+
+            assertThat(batches).isEqualTo(2);
+            assertThat(ids).containsExactly("a", "b", "c");
+            assertThat(orbits).containsExactly("LEO", null, "GTO");
+            assertThat(dates).containsExactly(
+                    Instant.parse("2020-01-01T00:00:00Z").toEpochMilli(), null,
+                    Instant.parse("2021-06-30T12:00:00Z").toEpochMilli());
+            assertThat(successes).containsExactly(true, null, false);
+            assertThat(masses).containsExactly(12.5, null, 3000.0);
+        }
+    }
+
+    @Test
+    void emptyTableKeepsItsSchema() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(new ArrowTableWriter<>(COLUMNS, 2).write(List.<Row>of().iterator(), out)).isZero();
+
+        try (BufferAllocator allocator = new RootAllocator();
+                ArrowFileReader reader = new ArrowFileReader(
+                        new ByteArrayReadableSeekableByteChannel(out.toByteArray()), allocator,
+                        CommonsCompressionFactory.INSTANCE)) {
+            assertThat(reader.getVectorSchemaRoot().getSchema().getFields()).hasSize(5);
+            assertThat(reader.loadNextBatch()).isTrue();
+            assertThat(reader.getVectorSchemaRoot().getRowCount()).isZero();
+        }
+    }
+}
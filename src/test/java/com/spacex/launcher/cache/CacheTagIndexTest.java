@@ -0,0 +1,54 @@
+package com.spacex.launcher.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class CacheTagIndexTest {
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("launchStats");
+    private final CacheTagIndex index = new LocalCacheTagIndex(cacheManager);
+    private final Cache cache = cacheManager.getCache("launchStats");
+
+    @Test
+    void storedEntryIsTaggedAndInvalidated() {
+        assertThat(index.get("launchStats", "global", () -> "v1", value -> List.of("launches"))).isEqualTo("v1");
+        assertThat(cache.get("global", String.class)).isEqualTo("v1");
+
+        assertThat(index.invalidate(List.of("launches"))).isEqualTo(1);
+        assertThat(cache.get("global")).isNull();
+    }
+
+    @Test
+    void entryComputedDuringInvalidationIsEvicted() {
+        String value = index.get("launchStats", "global", () -> {
+            // Synchronisation commitée et invalidée pendant le calcul
+            index.invalidate(List.of("launches"));
+            return "stale";
+        }, stats -> List.of("launches"));
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(cache.get("global")).isNull();
+    }
+
+    @Test
+    void hitDoesNotRecompute() {
+        cache.put("global", "cached");
+
+        assertThat(index.get("launchStats", "global", () -> "computed", value -> List.of("launches")))
+                .isEqualTo("cached");
+    }
+
+    @Test
+    void expiredHitIsRecomputed() {
+        cache.put("global", "past");
+
+        assertThat(index.get("launchStats", "global", () -> "fresh", value -> List.of("launches"),
+                "past"::equals)).isEqualTo("fresh");
+        assertThat(cache.get("global", String.class)).isEqualTo("fresh");
+    }
+}
@@ -0,0 +1,57 @@
+package com.spacex.launcher.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ResilientCacheTest {
+
+    private final Cache remote = mock(Cache.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RedisCircuitBreaker circuitBreaker =
+            new RedisCircuitBreaker(mock(RedisConnectionFactory.class), Duration.ofHours(1));
+    private final ResilientCache cache = new ResilientCache(
+            remote, new ConcurrentMapCache("launchStats"), circuitBreaker, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        circuitBreaker.destroy();
+    }
+
+    @Test
+    void remoteFailureFallsBackToLocalCacheWithoutPropagating() {
+        when(remote.getName()).thenReturn("launchStats");
+        when(remote.get("global")).thenThrow(new RedisConnectionFailureException("down"));
+
+        String value = cache.get("global", () -> "computed");
+
+        assertThat(value).isEqualTo("computed");
+        assertThat(circuitBreaker.isOpen()).isTrue();
+        assertThat(cache.get("global", () -> "recomputed")).isEqualTo("computed");
+        assertThat(meterRegistry.counter("spacex.cache.errors",
+                "cache", "launchStats", "operation", "get",
+                "exception", "RedisConnectionFailureException").count()).isEqualTo(1);
+    }
+
+    @Test
+    void failedEvictDoesNotThrow() {
+        when(remote.getName()).thenReturn("launchStats");
+        doThrow(new RedisConnectionFailureException("down")).when(remote).evict("global");
+
+        cache.evict("global");
+
+        assertThat(circuitBreaker.isOpen()).isTrue();
+    }
+}
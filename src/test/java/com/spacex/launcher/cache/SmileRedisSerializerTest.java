@@ -0,0 +1,61 @@
+package com.spacex.launcher.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.spacex.launcher.dto.LaunchStats;
+import com.spacex.launcher.dto.LaunchSummary;
+import com.spacex.launcher.dto.YearlyStats;
+
+class SmileRedisSerializerTest {
+
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory())
+            .registerModule(new JavaTimeModule());
+
+    @Test
+    void roundTripsProjectionWithoutCompression() {
+        SmileRedisSerializer<LaunchStats> serializer = new SmileRedisSerializer<>(
+                smileMapper, smileMapper.constructType(LaunchStats.class), Integer.MAX_VALUE);
+        LaunchStats stats = new LaunchStats(187, 96.5, new LaunchSummary(
+                "5eb87d47ffd86e000604b38a", "Crew-5", Instant.parse("2022-10-05T16:00:00Z"),
+                null, "falcon9", "Falcon 9", "ksc", "KSC LC 39A"));
+
+        byte[] bytes = serializer.serialize(stats);
+
+        assertEquals(0, bytes[0]);
+        assertEquals(stats, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void compressesValuesAboveThreshold() {
+        JavaType type = smileMapper.getTypeFactory().constructCollectionType(List.class, YearlyStats.class);
+        SmileRedisSerializer<List<YearlyStats>> serializer = new SmileRedisSerializer<>(smileMapper, type, 64);
+        List<YearlyStats> yearly = new ArrayList<>();
+        for (int year = 2006; year <= 2022; year++) {
+            yearly.add(new YearlyStats(year, year - 2000, 90.0));
+        }
+
+        byte[] bytes = serializer.serialize(yearly);
+
+        assertEquals(1, bytes[0]);
+        assertEquals(yearly, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void emptyPayloadDeserializesToNull() {
+        SmileRedisSerializer<LaunchStats> serializer = new SmileRedisSerializer<>(
+                smileMapper, smileMapper.constructType(LaunchStats.class), 1024);
+
+        assertNull(serializer.deserialize(new byte[0]));
+    }
+}
@@ -0,0 +1,145 @@
+package com.spacex.launcher.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class TwoLevelCacheTest {
+
+    /** L2 partagé par les deux instances */
+    private final ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager("launchStats");
+    private final RedisCircuitBreaker circuitBreaker =
+            new RedisCircuitBreaker(mock(RedisConnectionFactory.class), Duration.ofHours(1));
+
+    /** Abonnés du canal: chaque message est aussi renvoyé à son émetteur, comme Redis pub/sub */
+    private final List<CacheInvalidationBus> subscribers = new CopyOnWriteArrayList<>();
+
+    /** Verrous de chargement partagés (clé Redis -> jeton) */
+    private final ConcurrentMap<String, String> locks = new ConcurrentHashMap<>();
+
+    private final TwoLevelCache nodeA = node();
+    private final TwoLevelCache nodeB = node();
+
+    @AfterEach
+    void tearDown() {
+        circuitBreaker.destroy();
+    }
+
+    @Test
+    void localMissFallsThroughToRemote() {
+        remote.getCache("launchStats").put("global", "stats");
+
+        assertThat(nodeA.get("global", String.class)).isEqualTo("stats");
+        assertThat(local(nodeA).getIfPresent("global")).isEqualTo("stats");
+    }
+
+    @Test
+    void remoteInvalidationEvictsLocalCache() {
+        nodeA.put("global", "v1");
+        assertThat(nodeB.get("global", String.class)).isEqualTo("v1");
+        assertThat(local(nodeB).getIfPresent("global")).isEqualTo("v1");
+
+        nodeA.put("global", "v2");
+
+        assertThat(local(nodeB).getIfPresent("global")).isNull();
+        assertThat(nodeB.get("global", String.class)).isEqualTo("v2");
+    }
+
+    @Test
+    void ownEchoedInvalidationKeepsLocalWrite() {
+        nodeA.put("global", "v1");
+
+        assertThat(local(nodeA).getIfPresent("global")).isEqualTo("v1");
+    }
+
+    @Test
+    void remoteClearEmptiesLocalCache() {
+        nodeA.put("global", "v1");
+        nodeB.get("global");
+
+        nodeA.clear();
+
+        assertThat(local(nodeB).estimatedSize()).isZero();
+        assertThat(nodeB.get("global")).isNull();
+    }
+
+    @Test
+    void remoteMissIsLoadedByTheNodeHoldingTheLock() {
+        String value = nodeA.get("global", () -> "stats");
+
+        assertThat(value).isEqualTo("stats");
+        assertThat(remote.getCache("launchStats").get("global", String.class)).isEqualTo("stats");
+        assertThat(locks).isEmpty();
+    }
+
+    @Test
+    void otherNodeWaitsForTheValueInsteadOfLoadingIt() {
+        // Une autre instance calcule la clé: la valeur arrive dans L2 puis le verrou est rendu
+        locks.put("lock:launchStats:global", "other-node");
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(() -> {
+            remote.getCache("launchStats").put("global", "stats");
+            locks.remove("lock:launchStats:global");
+        });
+
+        String value = nodeB.get("global", () -> {
+            throw new AssertionError("Value loaded twice");
+        });
+
+        assertThat(value).isEqualTo("stats");
+    }
+
+    private TwoLevelCache node() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        doAnswer(invocation -> {
+            byte[] body = invocation.<String>getArgument(1).getBytes(StandardCharsets.UTF_8);
+            byte[] channel = CacheInvalidationBus.CHANNEL.getBytes(StandardCharsets.UTF_8);
+            subscribers.forEach(bus -> bus.onMessage(new DefaultMessage(channel, body), null));
+            return 1L;
+        }).when(redisTemplate).convertAndSend(eq(CacheInvalidationBus.CHANNEL), anyString());
+
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> locks.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        when(redisTemplate.hasKey(anyString())).thenAnswer(invocation -> locks.containsKey(invocation.getArgument(0)));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(invocation ->
+                locks.remove(invocation.<List<String>>getArgument(1).get(0), invocation.getArgument(2)) ? 1L : 0L);
+
+        CacheInvalidationBus bus = new CacheInvalidationBus(redisTemplate, circuitBreaker);
+        subscribers.add(bus);
+        CacheLoadLock loadLock = new CacheLoadLock(
+                redisTemplate, "lock:", Duration.ofSeconds(5), Duration.ofMillis(10), circuitBreaker);
+        return (TwoLevelCache) new TwoLevelCacheManager(remote, bus, loadLock, 100, Duration.ofMinutes(5))
+                .getCache("launchStats");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static com.github.benmanes.caffeine.cache.Cache<String, Object> local(Cache cache) {
+        return (com.github.benmanes.caffeine.cache.Cache<String, Object>) cache.getNativeCache();
+    }
+}
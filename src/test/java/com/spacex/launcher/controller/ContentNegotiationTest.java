@@ -0,0 +1,51 @@
+package com.spacex.launcher.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.spacex.launcher.config.WebConfig;
+
+class ContentNegotiationTest {
+
+    @Test
+    void defaultsToJson() {
+        assertThat(negotiate(null)).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(negotiate("*/*")).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(negotiate("application/*")).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    void picksHighestQualityFormat() {
+        assertThat(negotiate("application/cbor")).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(negotiate("application/cbor;q=0.5, application/json")).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(negotiate("application/json;q=0.2, application/x-jackson-smile"))
+                .isEqualTo(WebConfig.APPLICATION_SMILE);
+    }
+
+    @Test
+    void rejectsUnsupportedFormats() {
+        assertThatThrownBy(() -> negotiate("text/html"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_ACCEPTABLE));
+        assertThatThrownBy(() -> negotiate("application/cbor;q=0"))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void detectsGzipInAcceptEncoding() {
+        assertThat(ContentNegotiation.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(ContentNegotiation.acceptsGzip("br;q=1.0, gzip;q=0.8")).isTrue();
+        assertThat(ContentNegotiation.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ContentNegotiation.acceptsGzip("br")).isFalse();
+        assertThat(ContentNegotiation.acceptsGzip(null)).isFalse();
+    }
+
+    private static MediaType negotiate(String accept) {
+        return ContentNegotiation.negotiate(accept, ContentNegotiation.DASHBOARD_FORMATS);
+    }
+}
@@ -0,0 +1,111 @@
+package com.spacex.launcher.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.spacex.launcher.service.ChangeFeedService;
+import com.spacex.launcher.service.ChangeFeedService.PublishedVersion;
+
+class DatasetETagsTest {
+
+    private static final Map<String, String> BODY = Map.of("value", "a".repeat(512));
+
+    private final ChangeFeedService changeFeedService = mock(ChangeFeedService.class);
+    private final DatasetETags datasetETags = new DatasetETags(changeFeedService, new ResponseBodyCache(
+            Jackson2ObjectMapperBuilder.json().build(),
+            new MappingJackson2CborHttpMessageConverter(), new MappingJackson2SmileHttpMessageConverter(),
+            DataSize.ofBytes(256), DataSize.ofMegabytes(1)));
+
+    @BeforeEach
+    void setUp() {
+        when(changeFeedService.publishedVersion())
+                .thenReturn(new PublishedVersion(5, Instant.parse("2024-01-01T00:00:00Z")));
+    }
+
+    @Test
+    void bodyIsCompressedOnlyWhenClientAcceptsGzip() throws IOException {
+        ServletWebRequest identityRequest = request(null, null);
+        ServletWebRequest gzipRequest = request("gzip, deflate", null);
+        ResponseEntity<byte[]> identity = datasetETags.respondCached(identityRequest, "kpis", () -> BODY);
+        ResponseEntity<byte[]> gzip = datasetETags.respondCached(gzipRequest, "kpis", () -> BODY);
+
+        assertThat(identity.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        // ETag posé sur la réponse par checkNotModified(), distinct par encodage
+        assertThat(etag(gzipRequest)).isNotNull().isNotEqualTo(etag(identityRequest));
+        try (GZIPInputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(gzip.getBody()))) {
+            assertThat(gunzip.readAllBytes()).isEqualTo(identity.getBody());
+        }
+    }
+
+    @Test
+    void matchingETagGetsNotModified() {
+        ServletWebRequest first = request("gzip", null);
+        datasetETags.respondCached(first, "kpis", () -> BODY);
+
+        ResponseEntity<byte[]> second = datasetETags.respondCached(request("gzip", etag(first)), "kpis", () -> BODY);
+
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getBody()).isNull();
+        assertThat(second.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    void nextLaunchIsCheckedWithoutComputingTheBody() {
+        Instant next = Instant.now().plus(Duration.ofHours(1));
+        when(changeFeedService.publishedVersion()).thenReturn(
+                new PublishedVersion(5, Instant.parse("2024-01-01T00:00:00Z"), List.of(next)));
+        ServletWebRequest first = request(null, null);
+        datasetETags.respondCached(first, "kpis", true, () -> BODY);
+
+        ResponseEntity<byte[]> cached = datasetETags.respondCached(request(null, etag(first)), "kpis", true, () -> {
+            throw new AssertionError("body computed for a 304");
+        });
+        assertThat(cached.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        // Même version, prochain lancement passé: nouvel ETag
+        when(changeFeedService.publishedVersion()).thenReturn(
+                new PublishedVersion(5, Instant.parse("2024-01-01T00:00:00Z"), List.of(Instant.now().minusSeconds(1))));
+        ServletWebRequest afterLaunch = request(null, etag(first));
+        assertThat(datasetETags.respondCached(afterLaunch, "kpis", true, () -> BODY).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+        assertThat(etag(afterLaunch)).isNotEqualTo(etag(first));
+    }
+
+    private static String etag(ServletWebRequest request) {
+        return request.getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private static ServletWebRequest request(String acceptEncoding, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/dashboard/kpis");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
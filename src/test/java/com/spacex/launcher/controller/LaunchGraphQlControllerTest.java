@@ -0,0 +1,139 @@
+package com.spacex.launcher.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.spacex.launcher.config.GraphQlConfig;
+import com.spacex.launcher.dto.LaunchPadSummary;
+import com.spacex.launcher.dto.LaunchPage;
+import com.spacex.launcher.dto.LaunchSummary;
+import com.spacex.launcher.dto.PayloadSummary;
+import com.spacex.launcher.dto.RocketSummary;
+import com.spacex.launcher.service.CatalogService;
+import com.spacex.launcher.service.LaunchService;
+
+@GraphQlTest(LaunchGraphQlController.class)
+@Import(GraphQlConfig.class)
+class LaunchGraphQlControllerTest {
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @MockitoBean
+    private LaunchService launchService;
+
+    @MockitoBean
+    private CatalogService catalogService;
+
+    @Test
+    void launchFieldsAreLoadedOncePerPage() {
+        List<LaunchSummary> launches = List.of(
+                launch("l1", "r1", "p1"),
+                launch("l2", "r1", "p2"),
+                launch("l3", null, "p1"));
+        when(launchService.getAllLaunches(any(Pageable.class))).thenReturn(new LaunchPage(launches, 0, 3, 3, 1));
+        when(catalogService.getRocketsByIds(anyCollection())).thenReturn(Map.of(
+                "r1", new RocketSummary("r1", "Falcon 9", "rocket", true, "USA", "SpaceX")));
+        when(catalogService.getLaunchPadsByIds(anyCollection())).thenReturn(Map.of(
+                "p1", new LaunchPadSummary("p1", "SLC 40", "Cape Canaveral", "Florida", null, null),
+                "p2", new LaunchPadSummary("p2", "LC 39A", "Cape Canaveral", "Florida", null, null)));
+        when(launchService.getPayloadsByLaunchIds(anyCollection())).thenReturn(Map.of(
+                "l1", List.of(new PayloadSummary("s1", "Starlink", "Satellite", 15600.0, "LEO", "SpaceX"))));
+
+        graphQlTester.document("""
+                        {
+                          launches(size: 3) {
+                            content { id rocket { name } launchPad { name } payloads { name } }
+                          }
+                        }
+                        """)
+                .execute()
+                .path("launches.content[*].rocket.name").entityList(String.class).containsExactly("Falcon 9", "Falcon 9")
+                .path("launches.content[2].rocket").valueIsNull()
+                .path("launches.content[*].launchPad.name").entityList(String.class)
+                .containsExactly("SLC 40", "LC 39A", "SLC 40")
+                .path("launches.content[0].payloads[0].name").entity(String.class).isEqualTo("Starlink")
+                .path("launches.content[1].payloads").entityList(Object.class).hasSize(0);
+
+        // Un appel par champ pour toute la page, IDs dédoublonnés
+        verify(catalogService).getRocketsByIds(Set.of("r1"));
+        verify(catalogService).getLaunchPadsByIds(Set.of("p1", "p2"));
+        verify(launchService).getPayloadsByLaunchIds(Set.of("l1", "l2", "l3"));
+    }
+
+    @Test
+    void tooComplexQueryIsRejectedBeforeExecution() {
+        // Coût: (1 + 20 points par lancement) x 100 lancements > 2000
+        graphQlTester.document("""
+                        {
+                          launches(size: 100) {
+                            content {
+                              id name dateUtc success details
+                              rocket { id name type active country company }
+                              launchPad { id name locality region latitude longitude }
+                            }
+                          }
+                        }
+                        """)
+                .execute()
+                .errors()
+                .satisfy(errors -> assertThat(errors).singleElement()
+                        .satisfies(error -> assertThat(error.getMessage()).contains("complexity")));
+
+        verifyNoInteractions(launchService, catalogService);
+    }
+
+    /**
+     * Profondeur maximale abaissée à 3: le schéma n'a pas de type récursif,
+     * aucune requête valide n'atteint la limite par défaut (8)
+     */
+    @Nested
+    @TestPropertySource(properties = "spacex.graphql.max-depth=3")
+    class DepthLimit {
+
+        /** Contexte propre à cette limite: testeur et mocks injectés ici */
+        @Autowired
+        private GraphQlTester depthLimitedTester;
+
+        @Autowired
+        private LaunchService depthLimitedLaunchService;
+
+        @Autowired
+        private CatalogService depthLimitedCatalogService;
+
+        @Test
+        void tooDeepQueryIsRejectedBeforeExecution() {
+            depthLimitedTester.document("{ stats { nextLaunch { rocket { name } } } }")
+                    .execute()
+                    .errors()
+                    .satisfy(errors -> assertThat(errors).singleElement()
+                            .satisfies(error -> assertThat(error.getMessage()).contains("depth")));
+
+            verifyNoInteractions(depthLimitedLaunchService, depthLimitedCatalogService);
+        }
+    }
+
+    private static LaunchSummary launch(String id, String rocketId, String launchPadId) {
+        return new LaunchSummary(id, "Launch " + id, Instant.parse("2024-01-01T00:00:00Z"), true,
+                rocketId, null, launchPadId, null);
+    }
+}
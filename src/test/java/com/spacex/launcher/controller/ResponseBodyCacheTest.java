@@ -0,0 +1,61 @@
+package com.spacex.launcher.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+
+class ResponseBodyCacheTest {
+
+    private final ResponseBodyCache cache = new ResponseBodyCache(
+            Jackson2ObjectMapperBuilder.json().build(),
+            new MappingJackson2CborHttpMessageConverter(), new MappingJackson2SmileHttpMessageConverter(),
+            DataSize.ofBytes(256), DataSize.ofMegabytes(1));
+
+    private final AtomicInteger computations = new AtomicInteger();
+
+    @Test
+    void bodiesAreComputedOncePerVersion() {
+        ResponseBodyCache.EncodedBody first = cache.get(1, "kpis", MediaType.APPLICATION_JSON, body("a"));
+
+        assertThat(cache.get(1, "kpis", MediaType.APPLICATION_JSON, body("b"))).isSameAs(first);
+        assertThat(computations).hasValue(1);
+
+        // Nouvelle version: l'ancien corps n'est plus servi
+        assertThat(cache.get(2, "kpis", MediaType.APPLICATION_JSON, body("b")).identity())
+                .isEqualTo("{\"value\":\"b\"}".getBytes());
+        assertThat(cache.get(2, "kpis", MediaType.APPLICATION_JSON, body("c")).identity())
+                .isEqualTo("{\"value\":\"b\"}".getBytes());
+        assertThat(computations).hasValue(2);
+    }
+
+    @Test
+    void onlyBodiesAboveCompressionThresholdAreCompressed() throws IOException {
+        ResponseBodyCache.EncodedBody small = cache.get(1, "small", MediaType.APPLICATION_JSON, body("a"));
+        ResponseBodyCache.EncodedBody large = cache.get(1, "large", MediaType.APPLICATION_JSON, body("a".repeat(512)));
+
+        assertThat(small.gzip()).isNull();
+        assertThat(large.gzip()).isNotNull().hasSizeLessThan(large.identity().length);
+        try (GZIPInputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(large.gzip()))) {
+            assertThat(gunzip.readAllBytes()).isEqualTo(large.identity());
+        }
+    }
+
+    private Supplier<Map<String, String>> body(String value) {
+        return () -> {
+            computations.incrementAndGet();
+            return Map.of("value", value);
+        };
+    }
+}
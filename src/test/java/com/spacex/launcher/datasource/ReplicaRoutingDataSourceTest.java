@@ -0,0 +1,76 @@
+package com.spacex.launcher.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource routing;
+    private ReplicaRoutingDataSource.Replica replica;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        replica = new ReplicaRoutingDataSource.Replica("replica-1", upToDateReplica());
+        routing = new ReplicaRoutingDataSource(mock(DataSource.class), List.of(replica),
+                Duration.ofSeconds(5), Duration.ofHours(1), new SimpleMeterRegistry());
+        // Première mesure du retard, lancée au démarrage
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!(replica.lagSeconds() <= 5) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        routing.destroy();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    void onPrimaryOverridesReadOnlyRouting() {
+        Object target = ReplicaRoutingDataSource.onPrimary(() -> {
+            // Appels imbriqués: le drapeau reste posé jusqu'à la sortie du plus externe
+            ReplicaRoutingDataSource.onPrimary(() -> { });
+            return routing.determineCurrentLookupKey();
+        });
+
+        assertThat(target).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    private static DataSource upToDateReplica() throws Exception {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true);
+        when(result.getDouble(1)).thenReturn(0.0);
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenReturn(result);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
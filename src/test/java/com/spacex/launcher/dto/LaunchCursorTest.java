@@ -0,0 +1,29 @@
+package com.spacex.launcher.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+class LaunchCursorTest {
+
+    @Test
+    void roundTripsThroughOpaqueEncoding() {
+        LaunchCursor cursor = new LaunchCursor(Instant.parse("2022-03-19T04:42:00Z"), "5eb87d46ffd86e000604b388");
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("|", "=");
+        assertThat(LaunchCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsForeignCursors() {
+        assertThatThrownBy(() -> LaunchCursor.decode("not a cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LaunchCursor.decode("MjAyMg"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.spacex.launcher.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class GeohashTest {
+
+    @Test
+    void encodesKnownPoint() {
+        assertThat(Geohash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+    }
+
+    @Test
+    void coveringCellsContainEveryPointOfTheBox() {
+        GeoBox box = GeoDistance.boundingBoxes(28.56, -80.58, 50).get(0);
+        var cells = Geohash.coveringCells(box, 16);
+
+        assertThat(cells).hasSizeLessThanOrEqualTo(16);
+        for (double lat = box.minLatitude(); lat <= box.maxLatitude(); lat += 0.05) {
+            for (double lon = box.minLongitude(); lon <= box.maxLongitude(); lon += 0.05) {
+                String hash = Geohash.encode(lat, lon, Geohash.STORED_PRECISION);
+                assertThat(cells).anyMatch(hash::startsWith);
+            }
+        }
+    }
+
+    @Test
+    void upperBoundIsTheNextPrefix() {
+        assertThat(Geohash.upperBound("9q8")).isEqualTo("9q9");
+        assertThat(Geohash.upperBound("9qz")).isEqualTo("9r");
+        assertThat(Geohash.upperBound("zz")).isNull();
+    }
+
+    @Test
+    void boundingBoxIsSplitAtTheAntimeridian() {
+        List<GeoBox> boxes = GeoDistance.boundingBoxes(0, 179.9, 100);
+
+        assertThat(boxes).hasSize(2);
+        assertThat(boxes.get(1).minLongitude()).isEqualTo(-180);
+    }
+
+    @Test
+    void haversineIsStableForIdenticalPoints() {
+        assertThat(GeoDistance.haversineKm(28.5618571, -80.577366, 28.5618571, -80.577366)).isZero();
+        assertThat(GeoDistance.haversineKm(0, 0, 0, 180)).isCloseTo(GeoDistance.MAX_DISTANCE_KM, within(1e-6));
+    }
+}
@@ -0,0 +1,41 @@
+package com.spacex.launcher.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.spacex.launcher.dto.AutocompleteSuggestion;
+import com.spacex.launcher.dto.AutocompleteSuggestion.Type;
+
+class AutocompleteIndexTest {
+
+    private static final AutocompleteSuggestion FALCON_9 = new AutocompleteSuggestion("Falcon 9", Type.ROCKET, "r9");
+    private static final AutocompleteSuggestion FALCON_1 = new AutocompleteSuggestion("Falcon 1", Type.ROCKET, "r1");
+    private static final AutocompleteSuggestion FALCONSAT = new AutocompleteSuggestion("FalconSat", Type.LAUNCH, "l1");
+    private static final AutocompleteSuggestion CRS_20 = new AutocompleteSuggestion("CRS-20 Éclair", Type.LAUNCH, "l2");
+
+    private final AutocompleteIndex index = AutocompleteIndex.build(3, List.of(
+            new AutocompleteIndex.Entry(FALCONSAT, 1, Instant.parse("2006-03-24T22:30:00Z")),
+            new AutocompleteIndex.Entry(FALCON_1, 5, Instant.parse("2009-07-13T03:35:00Z")),
+            new AutocompleteIndex.Entry(FALCON_9, 150, Instant.parse("2024-01-01T00:00:00Z")),
+            new AutocompleteIndex.Entry(CRS_20, 1, Instant.parse("2020-03-07T04:50:00Z"))), 2);
+
+    @Test
+    void ranksByPopularityAndKeepsTopK() {
+        assertThat(index.lookup("fal", 10)).containsExactly(FALCON_9, FALCON_1);
+        assertThat(index.lookup("FALCONS", 10)).containsExactly(FALCONSAT);
+        assertThat(index.lookup("fal", 1)).containsExactly(FALCON_9);
+    }
+
+    @Test
+    void matchesWordStartsIgnoringCaseAccentsAndSpaces() {
+        assertThat(index.lookup("9", 10)).containsExactly(FALCON_9);
+        assertThat(index.lookup("  falcon   9", 10)).containsExactly(FALCON_9);
+        assertThat(index.lookup("ecl", 10)).containsExactly(CRS_20);
+        assertThat(index.lookup("xyz", 10)).isEmpty();
+        assertThat(index.lookup(" ", 10)).isEmpty();
+    }
+}
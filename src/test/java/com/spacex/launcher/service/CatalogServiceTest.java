@@ -0,0 +1,81 @@
+package com.spacex.launcher.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.spacex.launcher.dto.CatalogPage;
+import com.spacex.launcher.dto.RocketSummary;
+import com.spacex.launcher.model.Rocket;
+import com.spacex.launcher.repository.LaunchPadRepository;
+import com.spacex.launcher.repository.PayloadRepository;
+import com.spacex.launcher.repository.RocketRepository;
+import com.spacex.launcher.repository.TrigramSimilarity;
+
+class CatalogServiceTest {
+
+    private final RocketRepository rocketRepository = mock(RocketRepository.class);
+    private final LaunchPadRepository launchPadRepository = mock(LaunchPadRepository.class);
+    private final PayloadRepository payloadRepository = mock(PayloadRepository.class);
+    private final TrigramSimilarity trigramSimilarity = mock(TrigramSimilarity.class);
+    private final CatalogService catalogService = new CatalogService(
+            rocketRepository, launchPadRepository, payloadRepository, trigramSimilarity, 0.45, 0.3, 0.2);
+
+    @Test
+    void containsPatternEscapesLikeWildcards() {
+        assertThat(CatalogService.containsPattern("falcon")).isEqualTo("%falcon%");
+        assertThat(CatalogService.containsPattern("100%_a\\b")).isEqualTo("%100\\%\\_a\\\\b%");
+    }
+
+    @Test
+    void searchSetsListThresholdBeforeQuerying() {
+        Rocket falcon = Rocket.builder().id("r1").name("Falcon 9").type("rocket").active(true).build();
+        Page<Rocket> page = new PageImpl<>(List.of(falcon));
+        when(rocketRepository.searchByName(any(), any(), any())).thenReturn(page);
+
+        CatalogPage<RocketSummary> result = catalogService.findRockets("falcn_9", 1, 20);
+
+        InOrder order = inOrder(trigramSimilarity, rocketRepository);
+        order.verify(trigramSimilarity).setThreshold(0.45);
+        // Similarité "%" ou ILIKE "contient" (jokers échappés); tri par pertinence dans la requête
+        order.verify(rocketRepository).searchByName("falcn_9", "%falcn\\_9%", PageRequest.of(1, 20));
+        assertThat(result.content()).extracting(RocketSummary::name).containsExactly("Falcon 9");
+    }
+
+    @Test
+    void eachListUsesItsOwnThreshold() {
+        when(launchPadRepository.searchByName(any(), any(), any())).thenReturn(Page.empty());
+        when(payloadRepository.searchByName(any(), any(), any())).thenReturn(Page.empty());
+
+        catalogService.findLaunchPads("canaveral", 0, 10);
+        catalogService.findPayloads("starlink", 0, 10);
+
+        verify(trigramSimilarity).setThreshold(0.3);
+        verify(trigramSimilarity).setThreshold(0.2);
+    }
+
+    @Test
+    void listingWithoutQuerySkipsSimilarity() {
+        when(rocketRepository.findAll(any(Pageable.class))).thenReturn(Page.empty());
+
+        catalogService.findRockets(null, 0, 10);
+
+        verify(trigramSimilarity, never()).setThreshold(anyDouble());
+        verify(rocketRepository).findAll(PageRequest.of(0, 10, Sort.by("name", "id")));
+    }
+}
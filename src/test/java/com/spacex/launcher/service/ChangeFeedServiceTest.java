@@ -0,0 +1,126 @@
+package com.spacex.launcher.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.spacex.launcher.dto.LaunchChangeEntry;
+import com.spacex.launcher.dto.LaunchChangeFeed;
+import com.spacex.launcher.dto.LaunchSummary;
+import com.spacex.launcher.model.ChangeType;
+import com.spacex.launcher.model.DatasetVersion;
+import com.spacex.launcher.model.LaunchChange;
+import com.spacex.launcher.repository.DatasetVersionRepository;
+import com.spacex.launcher.repository.LaunchChangeRepository;
+import com.spacex.launcher.repository.LaunchRepository;
+import com.spacex.launcher.service.ChangeFeedService.PublishedVersion;
+
+class ChangeFeedServiceTest {
+
+    private final DatasetVersionRepository datasetVersionRepository = mock(DatasetVersionRepository.class);
+    private final LaunchChangeRepository launchChangeRepository = mock(LaunchChangeRepository.class);
+    private final LaunchRepository launchRepository = mock(LaunchRepository.class);
+    private final ChangeFeedService service = new ChangeFeedService(
+            datasetVersionRepository, launchChangeRepository, launchRepository, 50, Duration.ofSeconds(5));
+
+    @Test
+    void publishPurgesTombstonesOlderThanRetainedVersions() {
+        DatasetVersion version = DatasetVersion.builder().version(60L).build();
+        when(datasetVersionRepository.findById(60L)).thenReturn(Optional.of(version));
+        when(launchChangeRepository.deleteByTypeUpTo(ChangeType.DELETE, 10)).thenReturn(2);
+
+        service.publish(60, 4);
+
+        verify(launchChangeRepository).deleteSupersededChanges(60);
+        assertThat(version.getCompactedThrough()).isEqualTo(10);
+        assertThat(version.getPublishedAt()).isNotNull();
+        assertThat(service.currentVersion()).isEqualTo(60);
+    }
+
+    @Test
+    void publishedVersionTracksUpcomingLaunches() {
+        Instant next = Instant.now().plus(Duration.ofDays(1));
+        when(datasetVersionRepository.findById(60L))
+                .thenReturn(Optional.of(DatasetVersion.builder().version(60L).build()));
+        when(launchRepository.findLaunchDatesAfter(any())).thenReturn(List.of(next, next, next.plusSeconds(60)));
+
+        service.publish(60, 1);
+
+        PublishedVersion published = service.publishedVersion();
+        assertThat(published.launchesPassed(Instant.now())).isZero();
+        assertThat(published.launchesPassed(next)).isEqualTo(2);
+        assertThat(published.launchesPassed(next.plusSeconds(3600))).isEqualTo(3);
+    }
+
+    @Test
+    void floorIsKeptWhenNoTombstoneIsPurged() {
+        DatasetVersion early = DatasetVersion.builder().version(30L).build();
+        DatasetVersion late = DatasetVersion.builder().version(70L).build();
+        when(datasetVersionRepository.findById(30L)).thenReturn(Optional.of(early));
+        when(datasetVersionRepository.findById(70L)).thenReturn(Optional.of(late));
+
+        service.publish(30, 1);
+        service.publish(70, 1);
+
+        // Rien à purger avant la version 51 ; à 70, aucune suppression jusqu'à 20
+        verify(launchChangeRepository).deleteByTypeUpTo(eq(ChangeType.DELETE), anyLong());
+        verify(launchChangeRepository).deleteByTypeUpTo(ChangeType.DELETE, 20);
+        assertThat(early.getCompactedThrough()).isNull();
+        assertThat(late.getCompactedThrough()).isNull();
+    }
+
+    @Test
+    void clientsOutsideTheLogWindowMustReset() {
+        publishedVersion(60);
+        when(datasetVersionRepository.findCompactionFloor()).thenReturn(10L);
+
+        LaunchChangeFeed tooOld = service.getChangesSince(9);
+        LaunchChangeFeed ahead = service.getChangesSince(61);
+
+        assertThat(tooOld.resetRequired()).isTrue();
+        assertThat(tooOld.currentVersion()).isEqualTo(60);
+        assertThat(ahead.resetRequired()).isTrue();
+        assertThat(tooOld.changes()).isEmpty();
+        verify(launchChangeRepository, never()).findLatestChangesBetween(anyLong(), anyLong());
+    }
+
+    @Test
+    void changesSinceFloorCarryLiveSummaries() {
+        publishedVersion(60);
+        when(datasetVersionRepository.findCompactionFloor()).thenReturn(10L);
+        Instant changedAt = Instant.parse("2024-01-01T00:00:00Z");
+        when(launchChangeRepository.findLatestChangesBetween(10, 60)).thenReturn(List.of(
+                change(55L, "gone", ChangeType.DELETE, changedAt),
+                change(60L, "live", ChangeType.UPDATE, changedAt)));
+        LaunchSummary live = new LaunchSummary("live", "Live", changedAt, true, null, null, null, null);
+        when(launchRepository.findSummariesByIds(List.of("live"))).thenReturn(List.of(live));
+
+        LaunchChangeFeed feed = service.getChangesSince(10);
+
+        assertThat(feed.resetRequired()).isFalse();
+        assertThat(feed.changes()).containsExactly(
+                new LaunchChangeEntry(55, "gone", ChangeType.DELETE, changedAt, null),
+                new LaunchChangeEntry(60, "live", ChangeType.UPDATE, changedAt, live));
+    }
+
+    private void publishedVersion(long version) {
+        when(datasetVersionRepository.findTopByPublishedAtIsNotNullOrderByVersionDesc()).thenReturn(Optional.of(
+                DatasetVersion.builder().version(version).publishedAt(Instant.now()).build()));
+    }
+
+    private static LaunchChange change(long version, String launchId, ChangeType type, Instant changedAt) {
+        return LaunchChange.builder().version(version).launchId(launchId).changeType(type).changedAt(changedAt).build();
+    }
+}
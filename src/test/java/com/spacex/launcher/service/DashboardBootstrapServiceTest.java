@@ -0,0 +1,97 @@
+package com.spacex.launcher.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spacex.launcher.dto.DashboardBootstrap;
+import com.spacex.launcher.dto.LaunchPage;
+import com.spacex.launcher.dto.LaunchStats;
+import com.spacex.launcher.dto.LaunchSummary;
+import com.spacex.launcher.dto.YearlyStats;
+
+class DashboardBootstrapServiceTest {
+
+    private final LaunchService launchService = mock(LaunchService.class);
+    private final ChangeFeedService changeFeedService = mock(ChangeFeedService.class);
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final DashboardBootstrapService service = new DashboardBootstrapService(
+            launchService, changeFeedService, objectMapper,
+            new MappingJackson2CborHttpMessageConverter(), new MappingJackson2SmileHttpMessageConverter());
+
+    @BeforeEach
+    void setUp() {
+        when(launchService.getGlobalStats()).thenReturn(stats(Instant.now().plus(Duration.ofDays(1))));
+        when(launchService.getYearlyStats()).thenReturn(List.of(new YearlyStats(2020, 26, 1.0)));
+        when(launchService.getAllLaunches(any(Pageable.class))).thenReturn(new LaunchPage(List.of(), 0, 10, 0, 0));
+    }
+
+    @Test
+    void bundleIsRebuiltOnlyWhenVersionChanges() {
+        when(changeFeedService.currentVersion()).thenReturn(3L);
+        DashboardBootstrapService.Bundle first = service.current();
+
+        assertThat(service.current()).isSameAs(first);
+
+        when(changeFeedService.currentVersion()).thenReturn(4L);
+        assertThat(service.current().version()).isEqualTo(4);
+        verify(launchService, times(2)).getGlobalStats();
+    }
+
+    @Test
+    void bundleIsRebuiltOnceNextLaunchIsPast() {
+        when(changeFeedService.currentVersion()).thenReturn(3L);
+        when(launchService.getGlobalStats())
+                .thenReturn(stats(Instant.now().minusSeconds(1)))
+                .thenReturn(stats(Instant.now().plus(Duration.ofDays(1))));
+
+        DashboardBootstrapService.Bundle expired = service.current();
+        DashboardBootstrapService.Bundle rebuilt = service.current();
+
+        assertThat(rebuilt).isNotSameAs(expired);
+        assertThat(service.current()).isSameAs(rebuilt);
+    }
+
+    @Test
+    void encodingsCarryTheSameBootstrap() throws IOException {
+        when(changeFeedService.currentVersion()).thenReturn(3L);
+        DashboardBootstrapService.Bundle bundle = service.current();
+
+        assertThat(gunzip(bundle.gzip())).isEqualTo(bundle.json());
+        assertThat(gunzip(bundle.cborGzip())).isEqualTo(bundle.cbor());
+        assertThat(gunzip(bundle.smileGzip())).isEqualTo(bundle.smile());
+        DashboardBootstrap json = objectMapper.readValue(bundle.json(), DashboardBootstrap.class);
+        assertThat(json.version()).isEqualTo(3);
+        assertThat(new MappingJackson2CborHttpMessageConverter().getObjectMapper()
+                .readValue(bundle.cbor(), DashboardBootstrap.class)).isEqualTo(json);
+    }
+
+    private static byte[] gunzip(byte[] data) throws IOException {
+        try (GZIPInputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return gunzip.readAllBytes();
+        }
+    }
+
+    private static LaunchStats stats(Instant nextLaunchDate) {
+        return new LaunchStats(100, 0.9,
+                new LaunchSummary("next", "Next launch", nextLaunchDate, null, null, null, null, null));
+    }
+}
@@ -0,0 +1,27 @@
+package com.spacex.launcher.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class LaunchExportServiceTest {
+
+    @Test
+    void csvFieldQuotesOnlyWhenNeeded() {
+        assertThat(LaunchExportService.csvField(null)).isEmpty();
+        assertThat(LaunchExportService.csvField("Falcon 9")).isEqualTo("Falcon 9");
+        assertThat(LaunchExportService.csvField(true)).isEqualTo("true");
+        assertThat(LaunchExportService.csvField("CRS-1, CRS-2")).isEqualTo("\"CRS-1, CRS-2\"");
+        assertThat(LaunchExportService.csvField("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(LaunchExportService.csvField("line\nbreak")).isEqualTo("\"line\nbreak\"");
+    }
+
+    @Test
+    void formatParsingIsCaseInsensitive() {
+        assertThat(LaunchExportService.Format.parse(" CSV ")).isEqualTo(LaunchExportService.Format.CSV);
+        assertThat(LaunchExportService.Format.parse("ndjson").extension()).isEqualTo("ndjson");
+        assertThatThrownBy(() -> LaunchExportService.Format.parse("xml"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,120 @@
+package com.spacex.launcher.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.spacex.launcher.cache.ReferenceDataCache;
+import com.spacex.launcher.dto.ImportReport;
+import com.spacex.launcher.dto.spacex.LaunchDto;
+import com.spacex.launcher.dto.spacex.PayloadDto;
+import com.spacex.launcher.repository.DatasetWriteLock;
+import com.spacex.launcher.repository.LaunchImportRepository;
+import com.spacex.launcher.repository.LaunchImportRepository.MergeResult;
+import com.spacex.launcher.repository.LaunchImportRepository.RowWriter;
+import com.spacex.launcher.repository.LaunchImportRepository.TouchedState;
+
+class LaunchImportServiceTest {
+
+    @Test
+    void copyFieldKeepsEmptyStringsDistinctFromNull() {
+        assertThat(LaunchImportService.copyField(null)).isEmpty();
+        assertThat(LaunchImportService.copyField("")).isEqualTo("\"\"");
+        assertThat(LaunchImportService.copyField("say \"hi\", bye")).isEqualTo("\"say \"\"hi\"\", bye\"");
+        assertThat(LaunchImportService.copyField(12.5)).isEqualTo("\"12.5\"");
+    }
+
+    @Test
+    void arrayLiteralEscapesElements() {
+        assertThat(LaunchImportService.arrayLiteral(List.of())).isEqualTo("{}");
+        assertThat(LaunchImportService.arrayLiteral(List.of("a", "b\"c", "d\\e")))
+                .isEqualTo("{\"a\",\"b\\\"c\",\"d\\\\e\"}");
+    }
+
+    @Test
+    void launchValidationRejectsMissingOrOversizedFields() {
+        LaunchDto launch = new LaunchDto();
+        launch.setId("5eb87cd9ffd86e000604b32a");
+        assertThat(LaunchImportService.validateLaunch(launch)).isEqualTo("name is required");
+
+        launch.setName("FalconSat");
+        assertThat(LaunchImportService.validateLaunch(launch)).isNull();
+
+        launch.setRocket("x".repeat(256));
+        assertThat(LaunchImportService.validateLaunch(launch)).isEqualTo("rocket exceeds 255 characters");
+
+        launch.setRocket(null);
+        launch.setPayloads(List.of("5eb0e4b5b6c3bb0006eeb1e1", " "));
+        assertThat(LaunchImportService.validateLaunch(launch)).isEqualTo("payloads[] is required");
+    }
+
+    @Test
+    void payloadValidationRejectsNegativeMassAndNulCharacters() {
+        PayloadDto payload = new PayloadDto();
+        payload.setId("5eb0e4b5b6c3bb0006eeb1e1");
+        payload.setMassKg(-1.0);
+        assertThat(LaunchImportService.validatePayload(payload)).isEqualTo("mass_kg must be a positive number");
+
+        payload.setMassKg(20.0);
+        payload.setName("Falcon\0Sat");
+        assertThat(LaunchImportService.validatePayload(payload)).isEqualTo("name contains a NUL character");
+    }
+
+    @Test
+    void duplicateIdsAreReportedApartFromUnchangedLaunches() throws Exception {
+        LaunchImportRepository repository = mock(LaunchImportRepository.class);
+        DatasetWriteLock datasetWriteLock = mock(DatasetWriteLock.class);
+        when(datasetWriteLock.acquire()).thenReturn(mock(DatasetWriteLock.Lease.class));
+        // COPY puis dédoublonnage: 4 lignes valides, 3 ids distincts
+        when(repository.copyLaunches(any())).thenAnswer(invocation -> {
+            invocation.<RowWriter>getArgument(0).writeRows(new StringWriter());
+            return 3L;
+        });
+        when(repository.mergeLaunches(7)).thenReturn(new MergeResult(1, 1, 2, List.of()));
+        ChangeFeedService changeFeedService = mock(ChangeFeedService.class);
+        when(changeFeedService.openVersion()).thenReturn(7L);
+        LaunchImportService service = new LaunchImportService(repository, datasetWriteLock, changeFeedService,
+                mock(LaunchSearchService.class), mock(ReferenceDataCache.class),
+                mock(ApplicationEventPublisher.class), mock(PlatformTransactionManager.class),
+                Jackson2ObjectMapperBuilder.json().build());
+        String ndjson = """
+                {"id": "a", "name": "A"}
+                {"id": "b", "name": "B"}
+                {"id": "a", "name": "A again"}
+                {"id": "c", "name": "C"}
+                {"id": "d"}
+                """;
+
+        ImportReport report = service.importNdjson(LaunchImportService.Dataset.LAUNCHES,
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(report.records()).isEqualTo(4);
+        assertThat(report.rejected()).isEqualTo(1);
+        assertThat(report.duplicates()).isEqualTo(1);
+        assertThat(report.inserted()).isEqualTo(1);
+        assertThat(report.updated()).isEqualTo(1);
+        assertThat(report.unchanged()).isEqualTo(1);
+    }
+
+    @Test
+    void touchedTagsCoverEveryYearOfTheRange() {
+        TouchedState state = new TouchedState(true, "falcon9", null,
+                Instant.parse("2018-06-15T00:00:00Z"), Instant.parse("2020-06-15T00:00:00Z"));
+
+        assertThat(LaunchImportService.touchedTags(List.of(state)))
+                .contains("launches", "years", "success:true", "rocket:falcon9", "year:2018", "year:2019", "year:2020")
+                .noneMatch(tag -> tag.startsWith("pad:"));
+    }
+}
@@ -0,0 +1,45 @@
+package com.spacex.launcher.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.spacex.launcher.dto.LaunchSearchHit;
+import com.spacex.launcher.dto.LaunchSearchResult;
+import com.spacex.launcher.repository.LaunchRepository;
+
+class LaunchSearchServiceTest {
+
+    private final LaunchRepository launchRepository = mock(LaunchRepository.class);
+    private final LaunchSearchService service = new LaunchSearchService(launchRepository, "english");
+
+    @Test
+    void deepPageOffsetDoesNotOverflow() {
+        when(launchRepository.search("starlink", "english", 2_500_000_000L, 50)).thenReturn(List.of());
+        when(launchRepository.countSearch("starlink", "english")).thenReturn(120L);
+
+        LaunchSearchResult result = service.search("starlink", 50_000_000, 50);
+
+        assertThat(result.content()).isEmpty();
+        assertThat(result.totalElements()).isEqualTo(120);
+        verify(launchRepository).search("starlink", "english", 2_500_000_000L, 50);
+    }
+
+    @Test
+    void partialPageIsCountedWithoutCountQuery() {
+        LaunchSearchHit hit = new LaunchSearchHit("a", "Starlink", null, true, null, null, 0.5, "<mark>Starlink</mark>");
+        when(launchRepository.search("starlink", "english", 20L, 10)).thenReturn(List.of(hit));
+
+        LaunchSearchResult result = service.search("starlink", 2, 10);
+
+        assertThat(result.totalElements()).isEqualTo(21);
+        assertThat(result.totalPages()).isEqualTo(3);
+        verify(launchRepository, never()).countSearch("starlink", "english");
+    }
+}
@@ -0,0 +1,118 @@
+package com.spacex.launcher.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.spacex.launcher.cache.CacheTagIndex;
+import com.spacex.launcher.cache.ReferenceDataCache;
+import com.spacex.launcher.client.SpaceXClient;
+import com.spacex.launcher.dto.LaunchBatch;
+import com.spacex.launcher.dto.LaunchDetail;
+import com.spacex.launcher.dto.LaunchPayloadRow;
+import com.spacex.launcher.dto.PayloadSummary;
+import com.spacex.launcher.dto.spacex.LaunchDto;
+import com.spacex.launcher.event.LaunchDataChangedEvent;
+import com.spacex.launcher.mapper.LaunchMapper;
+import com.spacex.launcher.model.ChangeType;
+import com.spacex.launcher.model.Launch;
+import com.spacex.launcher.repository.DatasetWriteLock;
+import com.spacex.launcher.repository.LaunchPadRepository;
+import com.spacex.launcher.repository.LaunchRepository;
+import com.spacex.launcher.repository.RocketRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class LaunchServiceTest {
+
+    private final LaunchRepository launchRepository = mock(LaunchRepository.class);
+    private final SpaceXClient spaceXClient = mock(SpaceXClient.class);
+    private final ChangeFeedService changeFeedService = mock(ChangeFeedService.class);
+    private final LaunchSearchService launchSearchService = mock(LaunchSearchService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final DatasetWriteLock datasetWriteLock = mock(DatasetWriteLock.class);
+    private final LaunchService service = new LaunchService(launchRepository, mock(RocketRepository.class),
+            mock(LaunchPadRepository.class), spaceXClient, new LaunchMapper(), changeFeedService,
+            launchSearchService, eventPublisher, mock(CacheTagIndex.class), mock(ReferenceDataCache.class),
+            datasetWriteLock, mock(PlatformTransactionManager.class), 3);
+
+    @BeforeEach
+    void setUp() {
+        when(datasetWriteLock.acquire()).thenReturn(mock(DatasetWriteLock.Lease.class));
+        when(changeFeedService.openVersion()).thenReturn(7L);
+        when(launchRepository.findByIdWithDetails(any())).thenReturn(Optional.empty());
+        when(launchRepository.save(any(Launch.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void interruptedSyncStillPublishesCommittedLaunches() {
+        when(spaceXClient.getAllPayloads()).thenReturn(Flux.empty());
+        when(spaceXClient.getAllLaunches()).thenReturn(Flux.concat(
+                Flux.just(launch("l1")), Flux.error(new IllegalStateException("API down"))));
+
+        StepVerifier.create(service.synchronizeWithSpaceX()).verifyError(IllegalStateException.class);
+
+        verify(changeFeedService).recordChange(7, "l1", ChangeType.INSERT);
+        ArgumentCaptor<LaunchDataChangedEvent> event = ArgumentCaptor.forClass(LaunchDataChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().touchedTags()).contains("launches");
+        verify(changeFeedService).publish(7, 1);
+        // Liste incomplète: aucun lancement supprimé
+        verify(launchRepository, never()).findAllIds();
+        verify(changeFeedService, never()).recordChange(anyLong(), any(), eq(ChangeType.DELETE));
+    }
+
+    @Test
+    void batchLookupKeepsRequestOrderInTwoQueries() {
+        when(launchRepository.findDetailsByIds(Set.of("b", "a", "x")))
+                .thenReturn(List.of(detail("a"), detail("b")));
+        when(launchRepository.findPayloadRowsByLaunchIds(Set.of("a", "b"))).thenReturn(List.of(
+                new LaunchPayloadRow("b", "p1", "Starlink", "Satellite", 15600.0, "LEO", "SpaceX")));
+
+        LaunchBatch batch = service.getLaunchesByIds(List.of("b", "a", "x", "b", "x"));
+
+        assertThat(batch.launches()).extracting(LaunchBatch.Item::id).containsExactly("b", "a", "x", "b", "x");
+        assertThat(batch.launches()).extracting(LaunchBatch.Item::found)
+                .containsExactly(true, true, false, true, false);
+        assertThat(batch.launches().get(0).launch().payloads()).containsExactly(
+                new PayloadSummary("p1", "Starlink", "Satellite", 15600.0, "LEO", "SpaceX"));
+        assertThat(batch.launches().get(1).launch().payloads()).isEmpty();
+        assertThat(batch.launches().get(2).launch()).isNull();
+        assertThat(batch.missing()).containsExactly("x");
+        // Une requête pour les lancements, une pour les payloads, quel que soit le nombre d'IDs
+        verify(launchRepository).findDetailsByIds(Set.of("b", "a", "x"));
+        verify(launchRepository).findPayloadRowsByLaunchIds(Set.of("a", "b"));
+        verifyNoMoreInteractions(launchRepository);
+    }
+
+    private static LaunchDetail detail(String id) {
+        return new LaunchDetail(id, "Launch " + id, Instant.parse("2024-01-01T00:00:00Z"), true, null,
+                null, null, null, null, null, null, null, List.of());
+    }
+
+    private static LaunchDto launch(String id) {
+        LaunchDto dto = new LaunchDto();
+        dto.setId(id);
+        dto.setName("Launch " + id);
+        dto.setDateUtc(Instant.parse("2024-01-01T00:00:00Z"));
+        return dto;
+    }
+}